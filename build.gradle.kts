@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "4.0.2"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
     jacoco
 }
 
@@ -43,13 +44,17 @@ extra.apply {
     set("lombokVersion", "1.18.42")
     set("lombokMapstructBindingVersion", "0.2.0")
     set("flywayVersion", "10.15.0")
+    set("jmhVersion", "1.37")
+    set("bouncycastleVersion", "1.80")
 }
 
 dependencies {
     // Implementation
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-flyway")
     implementation("org.flywaydb:flyway-database-postgresql")
     implementation("io.jsonwebtoken:jjwt-api:${property("jjwtVersion")}")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     implementation("org.mapstruct:mapstruct:${property("mapstructVersion")}")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:${property("springdocVersion")}")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
@@ -61,6 +66,7 @@ dependencies {
     runtimeOnly("org.postgresql:postgresql:${property("postgresVersion")}")
     runtimeOnly("io.jsonwebtoken:jjwt-impl:${property("jjwtVersion")}")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:${property("jjwtVersion")}")
+    runtimeOnly("org.bouncycastle:bcprov-jdk18on:${property("bouncycastleVersion")}")
 
     // Compile Only
     compileOnly("org.projectlombok:lombok:${property("lombokVersion")}")
@@ -74,6 +80,15 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // Benchmarks
+    jmhImplementation("org.springframework:spring-test")
+}
+
+jmh {
+    jmhVersion = property("jmhVersion").toString()
+    includes = listOf(providers.gradleProperty("jmhIncludes").getOrElse(".*"))
+    resultFormat = "JSON"
 }
 
 tasks.withType<Test> {
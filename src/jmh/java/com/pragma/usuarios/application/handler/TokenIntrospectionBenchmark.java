@@ -0,0 +1,83 @@
+package com.pragma.usuarios.application.handler;
+
+import com.pragma.usuarios.application.dto.request.IntrospectRequest;
+import com.pragma.usuarios.application.dto.response.IntrospectResponse;
+import com.pragma.usuarios.domain.model.Role;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.spi.IJwtPort;
+import com.pragma.usuarios.domain.usecase.AuthUseCase;
+import com.pragma.usuarios.infrastructure.output.security.CompactJwtAdapter;
+import com.pragma.usuarios.infrastructure.output.security.DenylistTokenRevocationPort;
+import com.pragma.usuarios.infrastructure.output.security.JwtAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokens verified per second by one full introspection batch, from request DTO to response DTO.
+ * Runs on a single thread, so the score is tokens/sec per core. One token in ten of the batch is forged
+ * to include the rejection path.
+ * Run with {@code ./gradlew jmh -PjmhIncludes=TokenIntrospectionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class TokenIntrospectionBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-must-be-at-least-256-bits";
+    private static final long EXPIRATION_MS = 86400000L;
+
+    @Param({"jjwt", "compact"})
+    private String codec;
+
+    private AuthHandler authHandler;
+    private IntrospectRequest request;
+
+    @Setup
+    public void setUp() {
+        IJwtPort jwtPort = "compact".equals(codec)
+                ? new CompactJwtAdapter(SECRET, EXPIRATION_MS)
+                : new JwtAdapter(SECRET, EXPIRATION_MS);
+        AuthUseCase authUseCase = new AuthUseCase(null, null, jwtPort, null,
+                new DenylistTokenRevocationPort(), null, Duration.ofDays(14), Clock.systemUTC());
+        authHandler = new AuthHandler(authUseCase);
+
+        List<String> tokens = new ArrayList<>(IntrospectRequest.MAX_TOKENS);
+        for (long id = 1; id <= IntrospectRequest.MAX_TOKENS; id++) {
+            User user = User.builder()
+                    .id(id)
+                    .email("user" + id + "@example.com")
+                    .role(new Role(2L, "OWNER", "Restaurant owner"))
+                    .build();
+            String token = jwtPort.generateToken(user).getToken();
+            tokens.add(id % 10 == 0 ? token.substring(0, token.length() - 4) + "AAAA" : token);
+        }
+        request = new IntrospectRequest(tokens);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IntrospectRequest.MAX_TOKENS)
+    public IntrospectResponse introspectBatch() {
+        return authHandler.introspect(request);
+    }
+}
@@ -0,0 +1,193 @@
+package com.pragma.usuarios.domain.usecase;
+
+import com.pragma.usuarios.domain.model.IssuedToken;
+import com.pragma.usuarios.domain.model.RefreshToken;
+import com.pragma.usuarios.domain.model.Role;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.spi.IRefreshTokenPersistencePort;
+import com.pragma.usuarios.domain.spi.IUserPersistencePort;
+import com.pragma.usuarios.infrastructure.configuration.LoginAttemptProperties;
+import com.pragma.usuarios.infrastructure.output.memory.InMemoryLoginAttemptAdapter;
+import com.pragma.usuarios.infrastructure.output.security.DenylistTokenRevocationPort;
+import com.pragma.usuarios.infrastructure.output.security.JwtAdapter;
+import com.pragma.usuarios.infrastructure.output.security.PasswordEncoderAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logins per second for growing pool sizes, with the connection held across the BCrypt check (the former
+ * handler level transaction) or only for the credential lookup and the refresh token insert. With the hash inside
+ * the transaction throughput follows the pool size; without it, it follows the cores. Every login uses its own
+ * email so concurrent logins are not coalesced.
+ * Run with {@code ./gradlew jmh -PjmhIncludes=LoginBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(16)
+public class LoginBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-must-be-at-least-256-bits";
+    private static final String PASSWORD = "secret123";
+    private static final int BCRYPT_STRENGTH = 10;
+    private static final long STATEMENT_MICROS = 500;
+
+    @Param({"2", "4", "8"})
+    private int poolSize;
+
+    @Param({"handler-transaction", "lookup-only"})
+    private String connectionScope;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private SimulatedConnectionPool pool;
+    private AuthUseCase authUseCase;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(BCRYPT_STRENGTH);
+        User user = User.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .password(passwordEncoder.encode(PASSWORD))
+                .role(new Role(2L, "OWNER", "Restaurant owner"))
+                .build();
+
+        pool = new SimulatedConnectionPool(poolSize, STATEMENT_MICROS);
+        authUseCase = new AuthUseCase(new PooledUserPersistence(pool, user),
+                new PasswordEncoderAdapter(passwordEncoder),
+                new JwtAdapter(SECRET, 900_000L),
+                new PooledRefreshTokenPersistence(pool),
+                new DenylistTokenRevocationPort(),
+                new InMemoryLoginAttemptAdapter(new LoginAttemptProperties()),
+                Duration.ofDays(14),
+                Clock.systemUTC());
+    }
+
+    @TearDown(Level.Trial)
+    public void printHoldTime() {
+        System.out.printf("%n%s, pool %d: %.1f ms connection hold per login%n", connectionScope, poolSize,
+                pool.meanHoldMillis());
+    }
+
+    @Benchmark
+    public IssuedToken login() {
+        String email = "user" + sequence.incrementAndGet() + "@example.com";
+        IssuedToken issuedToken = "handler-transaction".equals(connectionScope)
+                ? pool.inTransaction(() -> authUseCase.authenticate(email, PASSWORD, null))
+                : authUseCase.authenticate(email, PASSWORD, null);
+        pool.completeUnitOfWork();
+        return issuedToken;
+    }
+
+    // Only the calls made by a login are pooled statements
+    private record PooledUserPersistence(SimulatedConnectionPool pool, User user) implements IUserPersistencePort {
+
+        // credential, user, role and employee restaurant in one projection
+        @Override
+        public Optional<User> findByEmail(String email) {
+            return pool.statement(() -> Optional.of(user));
+        }
+
+        @Override
+        public User saveUser(User user) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<User> findById(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<User> findAllByIds(Collection<Long> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<User> findByIdentityDocument(String identityDocument) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean existsByEmail(String email) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean existsByIdentityDocument(String identityDocument) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Integer> incrementTokenVersion(Long userId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void updatePassword(Long userId, String encodedPassword) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private record PooledRefreshTokenPersistence(SimulatedConnectionPool pool)
+            implements IRefreshTokenPersistencePort {
+
+        @Override
+        public void save(RefreshToken refreshToken) {
+            pool.statement(() -> refreshToken);
+        }
+
+        @Override
+        public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean markUsed(String tokenHash, Instant usedAt) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void revokeFamily(String familyId, Instant revokedAt) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void revokeAllForUser(Long userId, Instant revokedAt) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int deleteExpired(Instant now) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
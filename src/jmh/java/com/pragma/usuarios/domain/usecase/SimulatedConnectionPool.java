@@ -0,0 +1,76 @@
+package com.pragma.usuarios.domain.usecase;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * A fixed number of connections handed out in arrival order, standing in for Hikari in benchmarks. A statement
+ * borrows a connection for its own duration unless the calling thread already holds one for a transaction.
+ * Records how long connections stay checked out per unit of work.
+ */
+final class SimulatedConnectionPool {
+
+    private final Semaphore connections;
+    private final long statementNanos;
+    private final ThreadLocal<Boolean> holding = ThreadLocal.withInitial(() -> false);
+    private final LongAdder holdNanos = new LongAdder();
+    private final LongAdder unitsOfWork = new LongAdder();
+
+    SimulatedConnectionPool(int size, long statementMicros) {
+        this.connections = new Semaphore(size, true);
+        this.statementNanos = TimeUnit.MICROSECONDS.toNanos(statementMicros);
+    }
+
+    /**
+     * Runs the work on one connection held from start to end, like a handler level transaction.
+     */
+    <T> T inTransaction(Supplier<T> work) {
+        long acquiredAt = acquire();
+        holding.set(true);
+        try {
+            return work.get();
+        } finally {
+            holding.set(false);
+            release(acquiredAt);
+        }
+    }
+
+    <T> T statement(Supplier<T> result) {
+        return statements(1, result);
+    }
+
+    <T> T statements(int count, Supplier<T> result) {
+        if (holding.get()) {
+            LockSupport.parkNanos(count * statementNanos);
+            return result.get();
+        }
+        long acquiredAt = acquire();
+        try {
+            LockSupport.parkNanos(count * statementNanos);
+            return result.get();
+        } finally {
+            release(acquiredAt);
+        }
+    }
+
+    void completeUnitOfWork() {
+        unitsOfWork.increment();
+    }
+
+    double meanHoldMillis() {
+        return holdNanos.sum() / 1_000_000.0 / Math.max(1, unitsOfWork.sum());
+    }
+
+    private long acquire() {
+        connections.acquireUninterruptibly();
+        return System.nanoTime();
+    }
+
+    private void release(long acquiredAt) {
+        holdNanos.add(System.nanoTime() - acquiredAt);
+        connections.release();
+    }
+}
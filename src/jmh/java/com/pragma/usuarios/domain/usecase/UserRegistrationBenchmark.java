@@ -0,0 +1,165 @@
+package com.pragma.usuarios.domain.usecase;
+
+import com.pragma.usuarios.domain.model.Role;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.spi.IRolePersistencePort;
+import com.pragma.usuarios.domain.spi.IUserPersistencePort;
+import com.pragma.usuarios.infrastructure.constant.SecurityConstants;
+import com.pragma.usuarios.infrastructure.output.security.PasswordEncoderAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Client registrations per second against a connection pool smaller than the number of callers, with the
+ * connection held for the whole registration (the former class-level transaction, hash included) or only for
+ * each statement and the insert. The mean time a registration holds a connection is printed after each trial.
+ * The pool is a {@link SimulatedConnectionPool}, not Hikari, and both scopes are applied by hand around
+ * {@link UserUseCase}: this models the effect of the transaction boundary but does not exercise Spring's
+ * {@code @Transactional} on {@code UserHandler}, which {@code UserHandlerTransactionTest} covers.
+ * Run with {@code ./gradlew jmh -PjmhIncludes=UserRegistrationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(16)
+public class UserRegistrationBenchmark {
+
+    private static final int POOL_SIZE = 4;
+    private static final int BCRYPT_STRENGTH = 10;
+    private static final long STATEMENT_MICROS = 500;
+
+    @Param({"handler-transaction", "statements-only"})
+    private String connectionScope;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private SimulatedConnectionPool pool;
+    private UserUseCase userUseCase;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new SimulatedConnectionPool(POOL_SIZE, STATEMENT_MICROS);
+        userUseCase = new UserUseCase(new PooledUserPersistence(pool, sequence), new PooledRolePersistence(pool),
+                new PasswordEncoderAdapter(new BCryptPasswordEncoder(BCRYPT_STRENGTH)));
+    }
+
+    @TearDown(Level.Trial)
+    public void printHoldTime() {
+        System.out.printf("%n%s: %.1f ms connection hold per registration%n", connectionScope,
+                pool.meanHoldMillis());
+    }
+
+    @Benchmark
+    public User registerClient() {
+        User user = newClient();
+        User saved = "handler-transaction".equals(connectionScope)
+                ? pool.inTransaction(() -> userUseCase.createClient(user))
+                : userUseCase.createClient(user);
+        pool.completeUnitOfWork();
+        return saved;
+    }
+
+    private User newClient() {
+        long id = sequence.incrementAndGet();
+        User user = new User();
+        user.setFirstName("Load");
+        user.setLastName("Test");
+        user.setEmail("client" + id + "@example.com");
+        user.setIdentityDocument(String.valueOf(1_000_000_000L + id));
+        user.setPhone("+573001234567");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        user.setPassword("secret123");
+        return user;
+    }
+
+    private record PooledRolePersistence(SimulatedConnectionPool pool) implements IRolePersistencePort {
+
+        private static final Role CLIENT_ROLE = new Role(4L, SecurityConstants.ROLE_CLIENT, "Client");
+
+        @Override
+        public Optional<Role> findById(Long id) {
+            return pool.statement(() -> Optional.of(CLIENT_ROLE));
+        }
+
+        @Override
+        public Optional<Role> findByName(String name) {
+            return pool.statement(() -> Optional.of(CLIENT_ROLE));
+        }
+    }
+
+    private record PooledUserPersistence(SimulatedConnectionPool pool, AtomicLong sequence)
+            implements IUserPersistencePort {
+
+        // user and credential inserts in one transaction
+        @Override
+        public User saveUser(User user) {
+            return pool.statements(2, () -> {
+                user.setId(sequence.get());
+                return user;
+            });
+        }
+
+        @Override
+        public Optional<User> findById(Long id) {
+            return pool.statement(Optional::empty);
+        }
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            return pool.statement(Optional::empty);
+        }
+
+        @Override
+        public List<User> findAllByIds(Collection<Long> ids) {
+            return pool.statement(List::of);
+        }
+
+        @Override
+        public Optional<User> findByIdentityDocument(String identityDocument) {
+            return pool.statement(Optional::empty);
+        }
+
+        @Override
+        public boolean existsByEmail(String email) {
+            return pool.statement(() -> false);
+        }
+
+        @Override
+        public boolean existsByIdentityDocument(String identityDocument) {
+            return pool.statement(() -> false);
+        }
+
+        @Override
+        public Optional<Integer> incrementTokenVersion(Long userId) {
+            return pool.statement(Optional::empty);
+        }
+
+        @Override
+        public void updatePassword(Long userId, String encodedPassword) {
+            pool.statement(() -> null);
+        }
+    }
+}
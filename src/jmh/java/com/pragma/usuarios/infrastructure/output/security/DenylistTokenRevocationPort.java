@@ -0,0 +1,35 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import com.pragma.usuarios.domain.model.TokenClaims;
+import com.pragma.usuarios.domain.spi.ITokenRevocationPort;
+
+import java.time.Instant;
+
+/**
+ * Revocation checks answered by a {@link TokenDenylist}, like the production adapter, without its database
+ * write-through, so benchmarks measure the per-request cost only.
+ */
+public class DenylistTokenRevocationPort implements ITokenRevocationPort {
+
+    private final TokenDenylist denylist = new TokenDenylist();
+
+    @Override
+    public boolean isRevoked(TokenClaims claims) {
+        return denylist.isRevoked(claims.getTokenId(), claims.getUserId(), claims.tokenVersionOrZero());
+    }
+
+    @Override
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        denylist.revokeToken(tokenId, expiresAt);
+    }
+
+    @Override
+    public void revokeTokensBefore(Long userId, int tokenVersion) {
+        denylist.revokeTokensBefore(userId, tokenVersion);
+    }
+
+    @Override
+    public void purgeExpired() {
+        denylist.prune(Instant.now());
+    }
+}
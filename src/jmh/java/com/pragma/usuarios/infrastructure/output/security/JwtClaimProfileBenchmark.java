@@ -0,0 +1,72 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import com.pragma.usuarios.domain.model.Role;
+import com.pragma.usuarios.domain.model.TokenClaims;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.spi.IJwtPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse cost of a token per claim profile and codec. The size of each token, i.e. the bytes it adds to every
+ * {@code Authorization} header, is printed when the trial starts.
+ * Run with {@code ./gradlew jmh -PjmhIncludes=JwtClaimProfileBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtClaimProfileBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-must-be-at-least-256-bits";
+    private static final long EXPIRATION_MS = 86400000L;
+
+    @Param({"full", "minimal", "minimal-short"})
+    private String profile;
+
+    @Param({"jjwt", "compact"})
+    private String codec;
+
+    private IJwtPort jwtPort;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtClaimSettings claimSettings = new JwtClaimSettings(
+                profile.startsWith("minimal") ? JwtClaimProfile.MINIMAL : JwtClaimProfile.FULL,
+                Map.of(), profile.endsWith("-short"));
+        jwtPort = "compact".equals(codec)
+                ? new CompactJwtAdapter(SECRET, EXPIRATION_MS, claimSettings)
+                : new JwtAdapter(JwtKeyRing.of(JwtKey.hmac(SECRET)), EXPIRATION_MS, claimSettings);
+
+        User user = User.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .role(new Role(2L, "OWNER", "Restaurant owner"))
+                .build();
+        token = jwtPort.generateToken(user).getToken();
+        System.out.printf("%n%s/%s token: %d bytes%n", profile, codec, token.length());
+    }
+
+    @Benchmark
+    public Optional<TokenClaims> parse() {
+        return jwtPort.parseToken(token);
+    }
+}
@@ -0,0 +1,76 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import com.pragma.usuarios.domain.model.IssuedToken;
+import com.pragma.usuarios.domain.model.Role;
+import com.pragma.usuarios.domain.model.TokenClaims;
+import com.pragma.usuarios.domain.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signing and verification cost of the jjwt based {@link JwtAdapter} against {@link CompactJwtAdapter}.
+ * Both parse benchmarks verify the same jjwt-issued token.
+ * Run with {@code ./gradlew jmh -PjmhIncludes=JwtCodecBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtCodecBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-must-be-at-least-256-bits";
+    private static final long EXPIRATION_MS = 86400000L;
+
+    private JwtAdapter jwtAdapter;
+    private CompactJwtAdapter compactJwtAdapter;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtAdapter = new JwtAdapter(SECRET, EXPIRATION_MS);
+        compactJwtAdapter = new CompactJwtAdapter(SECRET, EXPIRATION_MS);
+
+        user = User.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .role(new Role(2L, "OWNER", "Restaurant owner"))
+                .build();
+        token = jwtAdapter.generateToken(user).getToken();
+    }
+
+    @Benchmark
+    public IssuedToken signJjwt() {
+        return jwtAdapter.generateToken(user);
+    }
+
+    @Benchmark
+    public IssuedToken signCompact() {
+        return compactJwtAdapter.generateToken(user);
+    }
+
+    @Benchmark
+    public Optional<TokenClaims> parseJjwt() {
+        return jwtAdapter.parseToken(token);
+    }
+
+    @Benchmark
+    public Optional<TokenClaims> parseCompact() {
+        return compactJwtAdapter.parseToken(token);
+    }
+}
@@ -0,0 +1,85 @@
+package com.pragma.usuarios.infrastructure.security;
+
+import com.pragma.usuarios.domain.model.Role;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.infrastructure.output.security.DenylistTokenRevocationPort;
+import com.pragma.usuarios.infrastructure.output.security.JwtAdapter;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token.
+ * {@code legacyFourParses} reproduces the previous filter, which verified the token once per claim;
+ * {@code singleParse} runs the current filter.
+ * Run with {@code ./gradlew jmh -PjmhIncludes=JwtAuthenticationFilterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-must-be-at-least-256-bits";
+    private static final long EXPIRATION_MS = 86400000L;
+
+    private JwtAdapter jwtAdapter;
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        jwtAdapter = new JwtAdapter(SECRET, EXPIRATION_MS);
+        filter = new JwtAuthenticationFilter(jwtAdapter, new DenylistTokenRevocationPort());
+
+        User user = User.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .role(new Role(2L, "OWNER", "Restaurant owner"))
+                .build();
+        token = jwtAdapter.generateToken(user).getToken();
+
+        request = new MockHttpServletRequest("GET", "/api/v1/users/1");
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    public void legacyFourParses(Blackhole blackhole) {
+        if (jwtAdapter.isTokenValid(token)) {
+            blackhole.consume(jwtAdapter.extractEmail(token));
+            blackhole.consume(jwtAdapter.extractRole(token));
+            blackhole.consume(jwtAdapter.extractUserId(token));
+        }
+    }
+
+    @Benchmark
+    public Object singleParse() throws ServletException, IOException {
+        filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
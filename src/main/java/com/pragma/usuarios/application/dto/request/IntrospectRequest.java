@@ -0,0 +1,23 @@
+package com.pragma.usuarios.application.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntrospectRequest {
+
+    public static final int MAX_TOKENS = 100;
+
+    @NotEmpty(message = "At least one token is required")
+    @Size(max = MAX_TOKENS, message = "At most " + MAX_TOKENS + " tokens can be introspected at once")
+    private List<String> tokens;
+}
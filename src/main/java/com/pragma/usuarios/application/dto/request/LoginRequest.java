@@ -2,6 +2,7 @@ package com.pragma.usuarios.application.dto.request;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,4 +20,8 @@ public class LoginRequest {
 
     @NotBlank(message = "Password is required")
     private String password;
+
+    // Optional, the service the token is meant for; decides which claims the token carries
+    @Size(max = 64, message = "Audience must have a maximum of 64 characters")
+    private String audience;
 }
@@ -0,0 +1,16 @@
+package com.pragma.usuarios.application.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogoutRequest {
+
+    // Optional, when present the refresh token and every token rotated from the same login are revoked too
+    private String refreshToken;
+}
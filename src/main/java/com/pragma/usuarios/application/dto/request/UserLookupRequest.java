@@ -0,0 +1,24 @@
+package com.pragma.usuarios.application.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserLookupRequest {
+
+    public static final int MAX_IDS = 100;
+
+    @NotEmpty(message = "At least one user id is required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " users can be looked up at once")
+    private List<@NotNull(message = "User ids cannot be null") Long> ids;
+}
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -16,4 +18,6 @@ public class AuthResponse {
     private Long userId;
     private String email;
     private String role;
+    private String refreshToken;
+    private Instant refreshTokenExpiresAt;
 }
@@ -0,0 +1,16 @@
+package com.pragma.usuarios.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntrospectResponse {
+
+    // Same order as the requested tokens
+    private List<TokenIntrospectionResponse> results;
+}
@@ -0,0 +1,16 @@
+package com.pragma.usuarios.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JwkSetResponse {
+
+    private List<Map<String, Object>> keys;
+}
@@ -0,0 +1,29 @@
+package com.pragma.usuarios.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One token of an introspection batch, shaped after RFC 7662: inactive tokens carry no claims.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospectionResponse {
+
+    private boolean active;
+    private Long userId;
+    private String email;
+    private String role;
+    // Expiration in epoch seconds
+    private Long exp;
+
+    public static TokenIntrospectionResponse inactive() {
+        return TokenIntrospectionResponse.builder().active(false).build();
+    }
+}
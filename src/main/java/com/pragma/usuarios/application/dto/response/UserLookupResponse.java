@@ -0,0 +1,17 @@
+package com.pragma.usuarios.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserLookupResponse {
+
+    // Same order as the requested ids, each id once
+    private List<UserResponse> users;
+    private List<Long> missingIds;
+}
@@ -1,11 +1,13 @@
 package com.pragma.usuarios.application.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Setter
@@ -24,5 +26,8 @@ public class UserResponse {
     private String email;
     private String role;
     private Long restaurantId;
+    // Validator of conditional reads, sent as the ETag and Last-Modified headers rather than in the body
+    @JsonIgnore
+    private Instant updatedAt;
 
 }
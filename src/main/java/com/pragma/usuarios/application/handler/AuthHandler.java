@@ -1,10 +1,19 @@
 package com.pragma.usuarios.application.handler;
 
+import com.pragma.usuarios.application.dto.request.IntrospectRequest;
 import com.pragma.usuarios.application.dto.request.LoginRequest;
+import com.pragma.usuarios.application.dto.request.LogoutRequest;
+import com.pragma.usuarios.application.dto.request.RefreshTokenRequest;
 import com.pragma.usuarios.application.dto.response.AuthResponse;
+import com.pragma.usuarios.application.dto.response.IntrospectResponse;
+import com.pragma.usuarios.application.dto.response.JwkSetResponse;
+import com.pragma.usuarios.application.dto.response.TokenIntrospectionResponse;
 import com.pragma.usuarios.domain.api.IAuthServicePort;
-import com.pragma.usuarios.domain.spi.IJwtPort;
+import com.pragma.usuarios.domain.exception.InvalidRefreshTokenException;
+import com.pragma.usuarios.domain.model.IssuedToken;
+import com.pragma.usuarios.domain.model.TokenClaims;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -12,64 +21,79 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthHandler implements IAuthHandler {
 
     private final IAuthServicePort authServicePort;
-    private final IJwtPort jwtPort;
 
-    public AuthHandler(IAuthServicePort authServicePort, IJwtPort jwtPort) {
+    public AuthHandler(IAuthServicePort authServicePort) {
         this.authServicePort = authServicePort;
-        this.jwtPort = jwtPort;
     }
 
-    private static final int MAX_FAILED_ATTEMPTS = 5;
-    private static final long LOCK_DURATION_MS = 15 * 60 * 1000L; // 15 minutes
-
-    private static final class Attempt {
-        int failures;
-        long lastFailedAt;
+    // The credential is read in its own read-only transaction and the refresh token insert commits on its own,
+    // so no connection is checked out while the password hash is verified
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AuthResponse login(LoginRequest request) {
+        String email = request.getEmail() == null ? null : request.getEmail().trim().toLowerCase();
+        return toAuthResponse(authServicePort.authenticate(email, request.getPassword(), request.getAudience()));
     }
 
-    private final java.util.concurrent.ConcurrentHashMap<String, Attempt> attempts = new java.util.concurrent.ConcurrentHashMap<>();
+    // Reuse detection revokes the token family before failing, that revocation has to be committed
+    @Override
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        return toAuthResponse(authServicePort.refresh(request.getRefreshToken()));
+    }
 
     @Override
-    public AuthResponse login(LoginRequest request) {
-        String email = request.getEmail() == null ? null : request.getEmail().trim().toLowerCase();
-        long now = System.currentTimeMillis();
+    public void logout(String accessToken, LogoutRequest request) {
+        authServicePort.logout(accessToken, request == null ? null : request.getRefreshToken());
+    }
 
-        Attempt a = attempts.get(email);
-        if (a != null && a.failures >= MAX_FAILED_ATTEMPTS) {
-            if (now - a.lastFailedAt < LOCK_DURATION_MS) {
-                throw new com.pragma.usuarios.domain.exception.TooManyLoginAttemptsException();
-            } else {
-                attempts.remove(email);
-                a = null;
-            }
-        }
+    @Override
+    public void signOutEverywhere(Long userId) {
+        authServicePort.signOutEverywhere(userId);
+    }
 
-        try {
-            String token = authServicePort.authenticate(email, request.getPassword());
+    // Verification never touches the database, so a batch should not hold a connection either
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public IntrospectResponse introspect(IntrospectRequest request) {
+        return new IntrospectResponse(authServicePort.introspect(request.getTokens()).stream()
+                .map(claims -> claims
+                        .map(AuthHandler::toIntrospectionResponse)
+                        .orElseGet(TokenIntrospectionResponse::inactive))
+                .toList());
+    }
 
-            attempts.remove(email);
+    @Override
+    @Transactional(readOnly = true)
+    public JwkSetResponse getJwkSet() {
+        return new JwkSetResponse(authServicePort.getPublicKeys());
+    }
 
-            return AuthResponse.builder()
-                    .token(token)
-                    .tokenType("Bearer")
-                    .userId(jwtPort.extractUserId(token))
-                    .email(jwtPort.extractEmail(token))
-                    .role(jwtPort.extractRole(token))
-                    .build();
-        } catch (com.pragma.usuarios.domain.exception.InvalidCredentialsException ex) {
-            attempts.compute(email, (k, v) -> {
-                if (v == null) v = new Attempt();
-                v.failures++;
-                v.lastFailedAt = System.currentTimeMillis();
-                return v;
-            });
+    @Override
+    public int purgeExpiredRefreshTokens() {
+        return authServicePort.purgeExpiredRefreshTokens();
+    }
 
-            Attempt updated = attempts.get(email);
-            if (updated != null && updated.failures >= MAX_FAILED_ATTEMPTS) {
-                throw new com.pragma.usuarios.domain.exception.TooManyLoginAttemptsException();
-            }
+    private AuthResponse toAuthResponse(IssuedToken issuedToken) {
+        TokenClaims claims = issuedToken.getClaims();
+        return AuthResponse.builder()
+                .token(issuedToken.getToken())
+                .tokenType("Bearer")
+                .userId(claims.getUserId())
+                .email(claims.getEmail())
+                .role(claims.getRole())
+                .refreshToken(issuedToken.getRefreshToken())
+                .refreshTokenExpiresAt(issuedToken.getRefreshTokenExpiresAt())
+                .build();
+    }
 
-            throw ex;
-        }
+    private static TokenIntrospectionResponse toIntrospectionResponse(TokenClaims claims) {
+        return TokenIntrospectionResponse.builder()
+                .active(true)
+                .userId(claims.getUserId())
+                .email(claims.getEmail())
+                .role(claims.getRole())
+                .exp(claims.getExpiresAt() == null ? null : claims.getExpiresAt().getEpochSecond())
+                .build();
     }
 }
@@ -1,9 +1,26 @@
 package com.pragma.usuarios.application.handler;
 
+import com.pragma.usuarios.application.dto.request.IntrospectRequest;
 import com.pragma.usuarios.application.dto.request.LoginRequest;
+import com.pragma.usuarios.application.dto.request.LogoutRequest;
+import com.pragma.usuarios.application.dto.request.RefreshTokenRequest;
 import com.pragma.usuarios.application.dto.response.AuthResponse;
+import com.pragma.usuarios.application.dto.response.IntrospectResponse;
+import com.pragma.usuarios.application.dto.response.JwkSetResponse;
 
 public interface IAuthHandler {
 
     AuthResponse login(LoginRequest request);
+
+    AuthResponse refresh(RefreshTokenRequest request);
+
+    void logout(String accessToken, LogoutRequest request);
+
+    void signOutEverywhere(Long userId);
+
+    IntrospectResponse introspect(IntrospectRequest request);
+
+    JwkSetResponse getJwkSet();
+
+    int purgeExpiredRefreshTokens();
 }
@@ -3,6 +3,8 @@ package com.pragma.usuarios.application.handler;
 import com.pragma.usuarios.application.dto.request.CreateClientRequest;
 import com.pragma.usuarios.application.dto.request.CreateEmployeeRequest;
 import com.pragma.usuarios.application.dto.request.CreateOwnerRequest;
+import com.pragma.usuarios.application.dto.request.UserLookupRequest;
+import com.pragma.usuarios.application.dto.response.UserLookupResponse;
 import com.pragma.usuarios.application.dto.response.UserResponse;
 
 import java.util.Optional;
@@ -16,4 +18,6 @@ public interface IUserHandler {
     UserResponse createClient(CreateClientRequest createClientRequest);
 
     Optional<UserResponse> getUserById(Long id);
+
+    UserLookupResponse lookupUsers(UserLookupRequest request);
 }
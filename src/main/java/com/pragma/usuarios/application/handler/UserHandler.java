@@ -3,6 +3,8 @@ package com.pragma.usuarios.application.handler;
 import com.pragma.usuarios.application.dto.request.CreateClientRequest;
 import com.pragma.usuarios.application.dto.request.CreateEmployeeRequest;
 import com.pragma.usuarios.application.dto.request.CreateOwnerRequest;
+import com.pragma.usuarios.application.dto.request.UserLookupRequest;
+import com.pragma.usuarios.application.dto.response.UserLookupResponse;
 import com.pragma.usuarios.application.dto.response.UserResponse;
 import com.pragma.usuarios.application.mapper.UserRequestMapper;
 import com.pragma.usuarios.application.mapper.UserResponseMapper;
@@ -10,9 +12,17 @@ import com.pragma.usuarios.domain.api.IUserServicePort;
 import com.pragma.usuarios.domain.model.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -23,7 +33,11 @@ public class UserHandler implements IUserHandler {
     private final UserRequestMapper userRequestMapper;
     private final UserResponseMapper userResponseMapper;
 
+    // Creation hashes the password for 50-100 ms. The existence checks and the role lookup each borrow a
+    // connection briefly and only the inserts share a transaction (UserJpaAdapter.saveUser), so no connection
+    // sits idle during the hash
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse createOwner(CreateOwnerRequest createOwnerRequest) {
         User user = userRequestMapper.toUser(createOwnerRequest);
         User savedUser = userServicePort.createOwner(user);
@@ -31,6 +45,7 @@ public class UserHandler implements IUserHandler {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse createEmployee(CreateEmployeeRequest createEmployeeRequest) {
         User user = userRequestMapper.toUser(createEmployeeRequest);
         User savedUser = userServicePort.createEmployee(user);
@@ -38,6 +53,7 @@ public class UserHandler implements IUserHandler {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse createClient(CreateClientRequest createClientRequest) {
         User user = userRequestMapper.toUser(createClientRequest);
         User savedUser = userServicePort.createClient(user);
@@ -50,4 +66,25 @@ public class UserHandler implements IUserHandler {
         return userServicePort.getUserById(id)
                 .map(userResponseMapper::toResponse);
     }
+
+    // One query for the whole batch, then put back in request order
+    @Override
+    @Transactional(readOnly = true)
+    public UserLookupResponse lookupUsers(UserLookupRequest request) {
+        Set<Long> ids = new LinkedHashSet<>(request.getIds());
+        Map<Long, User> found = userServicePort.getUsersByIds(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity(), (first, _) -> first));
+
+        List<UserResponse> users = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            User user = found.get(id);
+            if (user == null) {
+                missingIds.add(id);
+            } else {
+                users.add(userResponseMapper.toResponse(user));
+            }
+        }
+        return new UserLookupResponse(users, missingIds);
+    }
 }
@@ -1,10 +1,32 @@
 package com.pragma.usuarios.domain.api;
 
+import com.pragma.usuarios.domain.model.IssuedToken;
+import com.pragma.usuarios.domain.model.TokenClaims;
 import com.pragma.usuarios.domain.model.User;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 public interface IAuthServicePort {
 
-    String authenticate(String email, String password);
+    IssuedToken authenticate(String email, String password, String audience);
+
+    IssuedToken refresh(String refreshToken);
+
+    void logout(String accessToken, String refreshToken);
+
+    void signOutEverywhere(Long userId);
 
     User validateToken(String token);
+
+    /**
+     * Verifies each token the same way as {@link #validateToken}, in order, with an empty result for tokens
+     * that are invalid, expired or revoked.
+     */
+    List<Optional<TokenClaims>> introspect(List<String> tokens);
+
+    List<Map<String, Object>> getPublicKeys();
+
+    int purgeExpiredRefreshTokens();
 }
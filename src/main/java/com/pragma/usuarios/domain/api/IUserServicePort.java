@@ -2,6 +2,8 @@ package com.pragma.usuarios.domain.api;
 
 import com.pragma.usuarios.domain.model.User;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface IUserServicePort {
@@ -13,4 +15,11 @@ public interface IUserServicePort {
     User createClient(User user);
 
     Optional<User> getUserById(Long id);
+
+    /**
+     * Reads the given users at once.
+     *
+     * @return the users found, in no particular order; unknown ids are left out
+     */
+    List<User> getUsersByIds(Collection<Long> ids);
 }
@@ -0,0 +1,8 @@
+package com.pragma.usuarios.domain.exception;
+
+public class InvalidRefreshTokenException extends DomainException {
+
+    public InvalidRefreshTokenException() {
+        super("Invalid or expired refresh token");
+    }
+}
@@ -0,0 +1,17 @@
+package com.pragma.usuarios.domain.exception;
+
+import java.time.Duration;
+
+public class PasswordHashingBusyException extends DomainException {
+
+    private final Duration retryAfter;
+
+    public PasswordHashingBusyException(Duration retryAfter) {
+        super("The service is busy. Please try again later.");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,22 @@
+package com.pragma.usuarios.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssuedToken {
+
+    private String token;
+    private TokenClaims claims;
+    private String refreshToken;
+    private Instant refreshTokenExpiresAt;
+}
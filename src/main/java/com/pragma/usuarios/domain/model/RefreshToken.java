@@ -0,0 +1,37 @@
+package com.pragma.usuarios.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * A stored refresh token. Only the SHA-256 hash of the opaque token is kept; every token issued by
+ * rotating another one shares its {@code familyId}, so a replayed token can revoke the whole chain.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+
+    private String tokenHash;
+    private String familyId;
+    private Long userId;
+    // Audience of the access tokens issued from this login, kept across rotations
+    private String audience;
+    private Instant expiresAt;
+    private Instant usedAt;
+
+    public boolean isUsed() {
+        return usedAt != null;
+    }
+
+    public boolean isExpiredAt(Instant instant) {
+        return !expiresAt.isAfter(instant);
+    }
+}
@@ -0,0 +1,38 @@
+package com.pragma.usuarios.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenClaims {
+
+    private String tokenId;
+    private Long userId;
+    private String email;
+    private String role;
+    private Instant issuedAt;
+    private Instant expiresAt;
+    private Integer tokenVersion;
+
+    /**
+     * Tokens issued before token versions existed carry none and count as version 0.
+     */
+    public int tokenVersionOrZero() {
+        return tokenVersion == null ? 0 : tokenVersion;
+    }
+
+    public boolean hasRequiredClaims() {
+        return userId != null
+                && email != null && !email.isBlank()
+                && role != null && !role.isBlank();
+    }
+}
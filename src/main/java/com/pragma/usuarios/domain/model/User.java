@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Period;
 
@@ -29,6 +30,8 @@ public class User {
     private String password;
     private Role role;
     private Long restaurantId;
+    private Integer tokenVersion;
+    private Instant updatedAt;
 
     public void validateAge() {
         if (this.birthDate == null) {
@@ -1,10 +1,34 @@
 package com.pragma.usuarios.domain.spi;
 
+import com.pragma.usuarios.domain.model.IssuedToken;
+import com.pragma.usuarios.domain.model.TokenClaims;
 import com.pragma.usuarios.domain.model.User;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 public interface IJwtPort {
 
-    String generateToken(User user);
+    /**
+     * Signs a token for the user and returns it together with the claims it carries,
+     * so callers never need to parse a token they have just issued.
+     */
+    default IssuedToken generateToken(User user) {
+        return generateToken(user, null);
+    }
+
+    /**
+     * Same as {@link #generateToken(User)} for a token meant for the given audience, which decides how many
+     * claims the token embeds. A {@code null} or unknown audience gets the default claims.
+     */
+    IssuedToken generateToken(User user, String audience);
+
+    /**
+     * Verifies the signature and expiration of the token once and returns its claims.
+     * Returns an empty optional when the token is malformed, tampered with or expired.
+     */
+    Optional<TokenClaims> parseToken(String token);
 
     String extractEmail(String token);
 
@@ -13,4 +37,9 @@ public interface IJwtPort {
     Long extractUserId(String token);
 
     boolean isTokenValid(String token);
+
+    /**
+     * Public verification keys in RFC 7517 JWK form. Empty when tokens are signed with a shared secret.
+     */
+    List<Map<String, Object>> publicJwks();
 }
@@ -0,0 +1,23 @@
+package com.pragma.usuarios.domain.spi;
+
+public interface ILoginAttemptPort {
+
+    /**
+     * Whether the account is locked out after too many failed logins.
+     */
+    boolean isLocked(String email);
+
+    /**
+     * Counts a failed login.
+     *
+     * @return whether this failure locked the account
+     */
+    boolean recordFailure(String email);
+
+    void recordSuccess(String email);
+
+    /**
+     * Drops expired locks and failure counts.
+     */
+    void purgeExpired();
+}
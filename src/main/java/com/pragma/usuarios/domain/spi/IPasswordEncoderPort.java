@@ -5,4 +5,10 @@ public interface IPasswordEncoderPort {
     String encode(String rawPassword);
 
     boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * Whether the hash was made with another algorithm or other parameters than new hashes and should be
+     * replaced while the raw password is at hand.
+     */
+    boolean upgradeEncoding(String encodedPassword);
 }
@@ -0,0 +1,29 @@
+package com.pragma.usuarios.domain.spi;
+
+import com.pragma.usuarios.domain.model.RefreshToken;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface IRefreshTokenPersistencePort {
+
+    void save(RefreshToken refreshToken);
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Marks the token as used if nobody did so before.
+     *
+     * @return {@code false} when the token was already used, which means it has been presented twice
+     */
+    boolean markUsed(String tokenHash, Instant usedAt);
+
+    /**
+     * Marks every unused token of the family as used so none of them can be exchanged any more.
+     */
+    void revokeFamily(String familyId, Instant revokedAt);
+
+    void revokeAllForUser(Long userId, Instant revokedAt);
+
+    int deleteExpired(Instant now);
+}
@@ -0,0 +1,28 @@
+package com.pragma.usuarios.domain.spi;
+
+import com.pragma.usuarios.domain.model.TokenClaims;
+
+import java.time.Instant;
+
+public interface ITokenRevocationPort {
+
+    /**
+     * Answers from memory, it is called for every authenticated request.
+     */
+    boolean isRevoked(TokenClaims claims);
+
+    /**
+     * Denies a single token until it expires on its own.
+     */
+    void revokeToken(String tokenId, Instant expiresAt);
+
+    /**
+     * Denies every token of the user issued with a version lower than {@code tokenVersion}.
+     */
+    void revokeTokensBefore(Long userId, int tokenVersion);
+
+    /**
+     * Drops revocations of tokens that have expired on their own.
+     */
+    void purgeExpired();
+}
@@ -2,6 +2,8 @@ package com.pragma.usuarios.domain.spi;
 
 import com.pragma.usuarios.domain.model.User;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface IUserPersistencePort {
@@ -10,6 +12,11 @@ public interface IUserPersistencePort {
 
     Optional<User> findById(Long id);
 
+    /**
+     * @return the users with the given ids, in no particular order; unknown ids are left out
+     */
+    List<User> findAllByIds(Collection<Long> ids);
+
     Optional<User> findByEmail(String email);
 
     Optional<User> findByIdentityDocument(String identityDocument);
@@ -17,4 +24,13 @@ public interface IUserPersistencePort {
     boolean existsByEmail(String email);
 
     boolean existsByIdentityDocument(String identityDocument);
+
+    /**
+     * Bumps the version stamped into the user's new tokens.
+     *
+     * @return the new version, or empty when the user does not exist
+     */
+    Optional<Integer> incrementTokenVersion(Long userId);
+
+    void updatePassword(Long userId, String encodedPassword);
 }
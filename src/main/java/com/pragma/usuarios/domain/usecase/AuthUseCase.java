@@ -2,45 +2,271 @@ package com.pragma.usuarios.domain.usecase;
 
 import com.pragma.usuarios.domain.api.IAuthServicePort;
 import com.pragma.usuarios.domain.exception.InvalidCredentialsException;
+import com.pragma.usuarios.domain.exception.InvalidRefreshTokenException;
+import com.pragma.usuarios.domain.exception.TooManyLoginAttemptsException;
+import com.pragma.usuarios.domain.exception.UserNotFoundException;
+import com.pragma.usuarios.domain.model.IssuedToken;
+import com.pragma.usuarios.domain.model.RefreshToken;
+import com.pragma.usuarios.domain.model.Role;
+import com.pragma.usuarios.domain.model.TokenClaims;
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.domain.spi.IJwtPort;
+import com.pragma.usuarios.domain.spi.ILoginAttemptPort;
 import com.pragma.usuarios.domain.spi.IPasswordEncoderPort;
+import com.pragma.usuarios.domain.spi.IRefreshTokenPersistencePort;
+import com.pragma.usuarios.domain.spi.ITokenRevocationPort;
 import com.pragma.usuarios.domain.spi.IUserPersistencePort;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 public class AuthUseCase implements IAuthServicePort {
 
+    private static final System.Logger LOG = System.getLogger(AuthUseCase.class.getName());
+    private static final int REFRESH_TOKEN_BYTES = 32;
+
     private final IUserPersistencePort userPersistencePort;
     private final IPasswordEncoderPort passwordEncoderPort;
     private final IJwtPort jwtPort;
+    private final IRefreshTokenPersistencePort refreshTokenPersistencePort;
+    private final ITokenRevocationPort tokenRevocationPort;
+    private final ILoginAttemptPort loginAttemptPort;
+    private final Duration refreshTokenTtl;
+    private final Clock clock;
+    private final SecureRandom secureRandom = new SecureRandom();
+    // At most one password check per email at a time, identical concurrent attempts share its outcome
+    private final ConcurrentMap<String, PasswordCheck> passwordChecks = new ConcurrentHashMap<>();
 
     public AuthUseCase(IUserPersistencePort userPersistencePort,
                        IPasswordEncoderPort passwordEncoderPort,
-                       IJwtPort jwtPort) {
+                       IJwtPort jwtPort,
+                       IRefreshTokenPersistencePort refreshTokenPersistencePort,
+                       ITokenRevocationPort tokenRevocationPort,
+                       ILoginAttemptPort loginAttemptPort,
+                       Duration refreshTokenTtl,
+                       Clock clock) {
         this.userPersistencePort = userPersistencePort;
         this.passwordEncoderPort = passwordEncoderPort;
         this.jwtPort = jwtPort;
+        this.refreshTokenPersistencePort = refreshTokenPersistencePort;
+        this.tokenRevocationPort = tokenRevocationPort;
+        this.loginAttemptPort = loginAttemptPort;
+        this.refreshTokenTtl = refreshTokenTtl;
+        this.clock = clock;
     }
 
+    /**
+     * Checks the password and issues a new token family. Concurrent attempts for one email never hash in
+     * parallel: an identical attempt waits for the running check and shares its outcome, a different one waits
+     * for it to finish and then sees the lockout it may have caused before hashing. One hot account therefore
+     * costs at most one hash at a time.
+     */
     @Override
-    public String authenticate(String email, String password) {
-        User user = userPersistencePort.findByEmail(email)
-                .orElseThrow(InvalidCredentialsException::new);
+    public IssuedToken authenticate(String email, String password, String audience) {
+        User user = checkPassword(email, password);
+        return issueTokens(user, UUID.randomUUID().toString(), audience);
+    }
 
-        if (!passwordEncoderPort.matches(password, user.getPassword())) {
-            throw new InvalidCredentialsException();
+    @Override
+    public IssuedToken refresh(String refreshToken) {
+        Instant now = clock.instant();
+        RefreshToken stored = refreshTokenPersistencePort.findByTokenHash(sha256(refreshToken))
+                .orElseThrow(InvalidRefreshTokenException::new);
+
+        // A used token presented again means it leaked: revoke the chain so neither party can keep using it
+        if (stored.isUsed() || !refreshTokenPersistencePort.markUsed(stored.getTokenHash(), now)) {
+            refreshTokenPersistencePort.revokeFamily(stored.getFamilyId(), now);
+            throw new InvalidRefreshTokenException();
+        }
+        if (stored.isExpiredAt(now)) {
+            throw new InvalidRefreshTokenException();
+        }
+
+        User user = userPersistencePort.findById(stored.getUserId())
+                .orElseThrow(InvalidRefreshTokenException::new);
+        return issueTokens(user, stored.getFamilyId(), stored.getAudience());
+    }
+
+    @Override
+    public void logout(String accessToken, String refreshToken) {
+        Instant now = clock.instant();
+        jwtPort.parseToken(accessToken)
+                .filter(claims -> claims.getTokenId() != null)
+                .ifPresent(claims -> tokenRevocationPort.revokeToken(claims.getTokenId(), claims.getExpiresAt()));
+
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenPersistencePort.findByTokenHash(sha256(refreshToken))
+                    .ifPresent(stored -> refreshTokenPersistencePort.revokeFamily(stored.getFamilyId(), now));
         }
+    }
+
+    @Override
+    public void signOutEverywhere(Long userId) {
+        int tokenVersion = userPersistencePort.incrementTokenVersion(userId)
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + userId));
 
-        return jwtPort.generateToken(user);
+        tokenRevocationPort.revokeTokensBefore(userId, tokenVersion);
+        refreshTokenPersistencePort.revokeAllForUser(userId, clock.instant());
     }
 
+    /**
+     * Resolves the caller from the token alone. Logged out tokens and users signed out everywhere are caught by
+     * the in-memory revocation check, so no database lookup is needed.
+     */
     @Override
     public User validateToken(String token) {
-        if (!jwtPort.isTokenValid(token)) {
+        TokenClaims claims = activeClaims(token)
+                .orElseThrow(InvalidCredentialsException::new);
+
+        return User.builder()
+                .id(claims.getUserId())
+                .email(claims.getEmail())
+                .role(Role.builder().name(claims.getRole()).build())
+                .tokenVersion(claims.getTokenVersion())
+                .build();
+    }
+
+    @Override
+    public List<Optional<TokenClaims>> introspect(List<String> tokens) {
+        return tokens.stream()
+                .map(this::activeClaims)
+                .toList();
+    }
+
+    @Override
+    public List<Map<String, Object>> getPublicKeys() {
+        return jwtPort.publicJwks();
+    }
+
+    @Override
+    public int purgeExpiredRefreshTokens() {
+        return refreshTokenPersistencePort.deleteExpired(clock.instant());
+    }
+
+    private User checkPassword(String email, String password) {
+        String passwordDigest = sha256(password);
+        while (true) {
+            if (loginAttemptPort.isLocked(email)) {
+                throw new TooManyLoginAttemptsException();
+            }
+            PasswordCheck check = new PasswordCheck(passwordDigest, new CompletableFuture<>());
+            PasswordCheck running = passwordChecks.putIfAbsent(email, check);
+            if (running == null) {
+                return runPasswordCheck(email, password, check);
+            }
+            if (running.passwordDigest().equals(passwordDigest)) {
+                return await(running.outcome());
+            }
+            running.outcome().exceptionally(_ -> null).join();
+        }
+    }
+
+    private User runPasswordCheck(String email, String password, PasswordCheck check) {
+        try {
+            User user = verifyPassword(email, password);
+            check.outcome().complete(user);
+            return user;
+        } catch (RuntimeException ex) {
+            check.outcome().completeExceptionally(ex);
+            throw ex;
+        } finally {
+            passwordChecks.remove(email, check);
+        }
+    }
+
+    private User verifyPassword(String email, String password) {
+        Optional<User> user = userPersistencePort.findByEmail(email);
+        if (user.isEmpty() || !passwordEncoderPort.matches(password, user.get().getPassword())) {
+            if (loginAttemptPort.recordFailure(email)) {
+                throw new TooManyLoginAttemptsException();
+            }
             throw new InvalidCredentialsException();
         }
+        loginAttemptPort.recordSuccess(email);
 
-        String email = jwtPort.extractEmail(token);
-        return userPersistencePort.findByEmail(email)
-                .orElseThrow(InvalidCredentialsException::new);
+        upgradePassword(user.get(), password);
+        return user.get();
+    }
+
+    // The only moment the raw password is known: move the hash to the current algorithm and parameters. Best
+    // effort, the password was right and a busy hashing pool or a failed write must not fail the login; the next
+    // login tries again
+    private void upgradePassword(User user, String password) {
+        if (!passwordEncoderPort.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            userPersistencePort.updatePassword(user.getId(), passwordEncoderPort.encode(password));
+        } catch (RuntimeException ex) {
+            LOG.log(System.Logger.Level.WARNING, "Could not upgrade the password hash of user " + user.getId(), ex);
+        }
+    }
+
+    private static User await(CompletableFuture<User> outcome) {
+        try {
+            return outcome.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    // Signature and expiry are checked by a single parse, revocation is answered from memory
+    private Optional<TokenClaims> activeClaims(String token) {
+        return jwtPort.parseToken(token)
+                .filter(TokenClaims::hasRequiredClaims)
+                .filter(claims -> !tokenRevocationPort.isRevoked(claims));
+    }
+
+    private IssuedToken issueTokens(User user, String familyId, String audience) {
+        byte[] randomBytes = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(randomBytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+        Instant refreshTokenExpiresAt = clock.instant().plus(refreshTokenTtl);
+
+        refreshTokenPersistencePort.save(RefreshToken.builder()
+                .tokenHash(sha256(refreshToken))
+                .familyId(familyId)
+                .userId(user.getId())
+                .audience(audience)
+                .expiresAt(refreshTokenExpiresAt)
+                .build());
+
+        IssuedToken issuedToken = jwtPort.generateToken(user, audience);
+        issuedToken.setRefreshToken(refreshToken);
+        issuedToken.setRefreshTokenExpiresAt(refreshTokenExpiresAt);
+        return issuedToken;
+    }
+
+    // Refresh tokens carry 256 random bits, so a fast unsalted hash is enough to keep the stored value useless.
+    // Password digests only key the in-flight checks and are never stored.
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private record PasswordCheck(String passwordDigest, CompletableFuture<User> outcome) {
     }
 }
@@ -11,6 +11,8 @@ import com.pragma.usuarios.infrastructure.constant.SecurityConstants;
 import com.pragma.usuarios.infrastructure.constant.ValidationConstants;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -101,4 +103,12 @@ public class UserUseCase implements IUserServicePort {
     public Optional<User> getUserById(Long id) {
         return userPersistencePort.findById(id);
     }
+
+    @Override
+    public List<User> getUsersByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return userPersistencePort.findAllByIds(ids);
+    }
 }
@@ -0,0 +1,20 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.password.argon2")
+public class Argon2Properties {
+
+    // Argon2id memory cost in KiB
+    private int memory = 19_456;
+    private int iterations = 2;
+    private int parallelism = 1;
+    private int saltLength = 16;
+    private int hashLength = 32;
+}
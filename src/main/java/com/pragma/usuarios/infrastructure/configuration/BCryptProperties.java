@@ -0,0 +1,22 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.password.bcrypt")
+public class BCryptProperties {
+
+    private int strength = 10;
+    // Time BCrypt on this host at startup and use the highest strength within target-time, ignoring strength
+    private boolean calibrate;
+    private Duration targetTime = Duration.ofMillis(250);
+    private int minStrength = 10;
+    private int maxStrength = 16;
+}
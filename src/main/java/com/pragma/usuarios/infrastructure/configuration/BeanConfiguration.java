@@ -3,13 +3,22 @@ package com.pragma.usuarios.infrastructure.configuration;
 import com.pragma.usuarios.domain.api.IAuthServicePort;
 import com.pragma.usuarios.domain.api.IUserServicePort;
 import com.pragma.usuarios.domain.spi.IJwtPort;
+import com.pragma.usuarios.domain.spi.ILoginAttemptPort;
 import com.pragma.usuarios.domain.spi.IPasswordEncoderPort;
+import com.pragma.usuarios.domain.spi.IRefreshTokenPersistencePort;
 import com.pragma.usuarios.domain.spi.IRolePersistencePort;
+import com.pragma.usuarios.domain.spi.ITokenRevocationPort;
 import com.pragma.usuarios.domain.spi.IUserPersistencePort;
 import com.pragma.usuarios.domain.usecase.AuthUseCase;
 import com.pragma.usuarios.domain.usecase.UserUseCase;
+import com.pragma.usuarios.infrastructure.output.jpa.adapter.CachingUserPersistenceAdapter;
+import com.pragma.usuarios.infrastructure.output.jpa.adapter.UserJpaAdapter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Clock;
 
 @Configuration
 public class BeanConfiguration {
@@ -24,7 +33,21 @@ public class BeanConfiguration {
     @Bean
     public IAuthServicePort authServicePort(IUserPersistencePort userPersistencePort,
                                             IPasswordEncoderPort passwordEncoderPort,
-                                            IJwtPort jwtPort) {
-        return new AuthUseCase(userPersistencePort, passwordEncoderPort, jwtPort);
+                                            IJwtPort jwtPort,
+                                            IRefreshTokenPersistencePort refreshTokenPersistencePort,
+                                            ITokenRevocationPort tokenRevocationPort,
+                                            ILoginAttemptPort loginAttemptPort,
+                                            JwtRefreshProperties jwtRefreshProperties) {
+        return new AuthUseCase(userPersistencePort, passwordEncoderPort, jwtPort, refreshTokenPersistencePort,
+                tokenRevocationPort, loginAttemptPort, jwtRefreshProperties.getTtl(), Clock.systemUTC());
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "users.cache", name = "enabled", havingValue = "true")
+    public CachingUserPersistenceAdapter cachingUserPersistenceAdapter(UserJpaAdapter userJpaAdapter,
+                                                                       UserCacheProperties userCacheProperties) {
+        return new CachingUserPersistenceAdapter(userJpaAdapter, userCacheProperties.getMaximumSize(),
+                userCacheProperties.getTtl());
     }
 }
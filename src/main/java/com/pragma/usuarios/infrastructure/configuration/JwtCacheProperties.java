@@ -0,0 +1,16 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt.cache")
+public class JwtCacheProperties {
+
+    private boolean enabled;
+    private long maximumSize = 10_000;
+}
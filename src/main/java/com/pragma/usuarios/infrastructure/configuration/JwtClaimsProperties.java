@@ -0,0 +1,22 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import com.pragma.usuarios.infrastructure.output.security.JwtClaimProfile;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt.claims")
+public class JwtClaimsProperties {
+
+    private JwtClaimProfile profile = JwtClaimProfile.FULL;
+    private boolean shortNames = false;
+    // Audience requested at login -> profile of its tokens
+    private Map<String, JwtClaimProfile> audiences = new LinkedHashMap<>();
+}
@@ -0,0 +1,67 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import com.pragma.usuarios.domain.spi.IJwtPort;
+import com.pragma.usuarios.infrastructure.constant.SecurityConstants;
+import com.pragma.usuarios.infrastructure.output.security.CachingJwtAdapter;
+import com.pragma.usuarios.infrastructure.output.security.JwtClaimSettings;
+import com.pragma.usuarios.infrastructure.output.security.JwtKey;
+import com.pragma.usuarios.infrastructure.output.security.JwtKeyRing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+
+@Slf4j
+@Configuration
+public class JwtConfiguration {
+
+    @Bean
+    public JwtKeyRing jwtKeyRing(JwtProperties jwtProperties, ObjectProvider<JwtKeyRingFileWatcher> keyRingFileWatcher) {
+        JwtKeyRingFileWatcher fileWatcher = keyRingFileWatcher.getIfAvailable();
+        if (fileWatcher != null) {
+            return fileWatcher.keyRing();
+        }
+
+        if (jwtProperties.getSignatureAlgorithm().isAsymmetric()
+                && (jwtProperties.getPrivateKey() == null || jwtProperties.getPrivateKey().isBlank())) {
+            JwtKey generated = JwtKey.generate(jwtProperties.getSignatureAlgorithm(), jwtProperties.getKeyId());
+            log.warn("No jwt.private-key configured, generated an ephemeral {} key '{}'. "
+                            + "Tokens will not survive a restart and other replicas will not accept them.",
+                    jwtProperties.getSignatureAlgorithm().getJwsName(), generated.getKeyId());
+            return new JwtKeyRing(generated, JwtKeyRingLoader.verificationKeys(jwtProperties));
+        }
+
+        return JwtKeyRingLoader.keyRing(jwtProperties);
+    }
+
+    @Bean
+    public JwtClaimSettings jwtClaimSettings(JwtClaimsProperties jwtClaimsProperties) {
+        return new JwtClaimSettings(jwtClaimsProperties.getProfile(), jwtClaimsProperties.getAudiences(),
+                jwtClaimsProperties.isShortNames());
+    }
+
+    @Bean
+    @ConditionalOnExpression("'${jwt.keyring.file:}' != ''")
+    public JwtKeyRingFileWatcher jwtKeyRingFileWatcher(JwtKeyRingProperties jwtKeyRingProperties) {
+        JwtKeyRingFileWatcher fileWatcher = new JwtKeyRingFileWatcher(Path.of(jwtKeyRingProperties.getFile()));
+        fileWatcher.start(jwtKeyRingProperties.getPollInterval());
+        return fileWatcher;
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "jwt.cache", name = "enabled", havingValue = "true")
+    public CachingJwtAdapter cachingJwtAdapter(@Qualifier(SecurityConstants.JWT_CODEC_QUALIFIER) IJwtPort jwtCodec,
+                                               JwtCacheProperties jwtCacheProperties,
+                                               JwtKeyRing jwtKeyRing) {
+        CachingJwtAdapter cachingJwtAdapter = new CachingJwtAdapter(jwtCodec, jwtCacheProperties.getMaximumSize());
+        jwtKeyRing.onRotation(cachingJwtAdapter::invalidateAll);
+        return cachingJwtAdapter;
+    }
+}
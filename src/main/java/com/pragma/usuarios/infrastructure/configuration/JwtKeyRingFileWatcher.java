@@ -0,0 +1,99 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import com.pragma.usuarios.infrastructure.output.security.JwtKey;
+import com.pragma.usuarios.infrastructure.output.security.JwtKeyRing;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the {@link JwtKeyRing} from a YAML file with the layout of the {@code jwt} section of application.yml
+ * and rotates the ring whenever the file content changes. The file is polled rather than watched through
+ * {@link java.nio.file.WatchService} so that atomic replacements, such as mounted secrets swapping a symlink,
+ * are picked up as well.
+ * <p>
+ * A file that fails to load is logged and ignored, the ring keeps the keys it had.
+ */
+@Slf4j
+public class JwtKeyRingFileWatcher implements AutoCloseable {
+
+    private final Path file;
+    private final JwtKeyRing keyRing;
+    private ScheduledExecutorService scheduler;
+    private byte[] loadedContent;
+
+    public JwtKeyRingFileWatcher(Path file) {
+        this.file = file;
+        try {
+            this.loadedContent = Files.readAllBytes(file);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to read JWT keyring file " + file, ex);
+        }
+        this.keyRing = JwtKeyRingLoader.keyRing(JwtKeyRingLoader.read(loadedContent));
+        log.info("Loaded JWT keyring from {} with keys {}", file, keyIds());
+    }
+
+    public JwtKeyRing keyRing() {
+        return keyRing;
+    }
+
+    public synchronized void start(Duration pollInterval) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("jwt-keyring-watcher").daemon().factory());
+        long intervalMs = pollInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::reload, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Rotates the ring if the file changed since the last attempt.
+     *
+     * @return whether the ring was rotated
+     */
+    synchronized boolean reload() {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+        } catch (IOException ex) {
+            log.warn("Unable to read JWT keyring file {}, keeping the current keys: {}", file, ex.getMessage());
+            return false;
+        }
+        if (Arrays.equals(content, loadedContent)) {
+            return false;
+        }
+
+        loadedContent = content;
+        try {
+            JwtKeyRingLoader.rotate(keyRing, JwtKeyRingLoader.read(content));
+        } catch (RuntimeException ex) {
+            log.error("Invalid JWT keyring file {}, keeping the current keys", file, ex);
+            return false;
+        }
+        log.info("Rotated JWT keyring from {}, active key {} and keys {}",
+                file, keyRing.activeKey().getKeyId(), keyIds());
+        return true;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private String keyIds() {
+        return keyRing.keys().stream()
+                .map(JwtKey::getKeyId)
+                .toList()
+                .toString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import com.pragma.usuarios.infrastructure.output.security.JwtKey;
+import com.pragma.usuarios.infrastructure.output.security.JwtKeyRing;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Builds a {@link JwtKeyRing} from the {@code jwt} properties, either those of application.yml or
+ * a keyring file with the same layout.
+ */
+final class JwtKeyRingLoader {
+
+    private JwtKeyRingLoader() {
+        throw new AssertionError("Cannot instantiate JwtKeyRingLoader");
+    }
+
+    static JwtKeyRing keyRing(JwtProperties jwtProperties) {
+        return new JwtKeyRing(activeKey(jwtProperties), verificationKeys(jwtProperties));
+    }
+
+    static void rotate(JwtKeyRing keyRing, JwtProperties jwtProperties) {
+        keyRing.rotate(activeKey(jwtProperties), verificationKeys(jwtProperties));
+    }
+
+    static JwtKey activeKey(JwtProperties jwtProperties) {
+        if (!jwtProperties.getSignatureAlgorithm().isAsymmetric()) {
+            return JwtKey.hmac(jwtProperties.getKeyId(), jwtProperties.getSecret());
+        }
+        return JwtKey.fromPem(jwtProperties.getSignatureAlgorithm(), jwtProperties.getKeyId(),
+                jwtProperties.getPrivateKey(), jwtProperties.getPublicKey());
+    }
+
+    static List<JwtKey> verificationKeys(JwtProperties jwtProperties) {
+        return jwtProperties.getVerificationKeys().stream()
+                .map(JwtKeyRingLoader::verificationKey)
+                .toList();
+    }
+
+    /**
+     * Reads the {@code jwt} section of a YAML document.
+     */
+    static JwtProperties read(byte[] yaml) {
+        try {
+            Binder binder = new Binder(ConfigurationPropertySources.from(
+                    new YamlPropertySourceLoader().load("jwt-keyring", new ByteArrayResource(yaml))));
+            return binder.bind("jwt", JwtProperties.class).orElseGet(JwtProperties::new);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static JwtKey verificationKey(JwtProperties.VerificationKey key) {
+        if (!key.getSignatureAlgorithm().isAsymmetric()) {
+            return JwtKey.hmac(key.getKeyId(), key.getSecret());
+        }
+        return JwtKey.verificationOnly(key.getSignatureAlgorithm(), key.getKeyId(), key.getPublicKey());
+    }
+}
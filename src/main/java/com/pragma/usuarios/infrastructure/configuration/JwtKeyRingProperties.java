@@ -0,0 +1,18 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt.keyring")
+public class JwtKeyRingProperties {
+
+    private String file;
+    private Duration pollInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,36 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import com.pragma.usuarios.infrastructure.output.security.JwtSignatureAlgorithm;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+
+    private String secret;
+    private JwtSignatureAlgorithm signatureAlgorithm = JwtSignatureAlgorithm.HMAC;
+    private String keyId;
+    private String privateKey;
+    private String publicKey;
+    private Duration jwksMaxAge = Duration.ofMinutes(15);
+    private List<VerificationKey> verificationKeys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class VerificationKey {
+
+        private String keyId;
+        private JwtSignatureAlgorithm signatureAlgorithm = JwtSignatureAlgorithm.HMAC;
+        private String secret;
+        private String publicKey;
+    }
+}
@@ -0,0 +1,19 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt.refresh")
+public class JwtRefreshProperties {
+
+    private Duration ttl = Duration.ofDays(14);
+    private String store = "jpa";
+    private Duration purgeInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,23 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.login-attempts")
+public class LoginAttemptProperties {
+
+    private String store = "jpa";
+    private int maxFailures = 5;
+    private Duration lockDuration = Duration.ofMinutes(15);
+    private Duration maxLockDuration = Duration.ofHours(24);
+    private Duration failureWindow = Duration.ofMinutes(15);
+    private long maximumSize = 100_000;
+    private Duration sweepInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,39 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import com.pragma.usuarios.infrastructure.constant.ApiConstants;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Replaces Spring Boot's open-in-view interceptor, which backs off when this bean exists, with one that skips the
+ * registration routes. Their reads run outside a transaction so no connection is held while the password is hashed;
+ * an entity manager kept open for the request would pin the connection of the first read until the response is
+ * written. Every other route keeps open-in-view as before.
+ */
+@Configuration
+public class OpenEntityManagerInViewConfiguration implements WebMvcConfigurer {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public OpenEntityManagerInViewConfiguration(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        return interceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns(ApiConstants.USERS_OWNERS_PATH, ApiConstants.USERS_EMPLOYEES_PATH,
+                        ApiConstants.USERS_CLIENTS_PATH);
+    }
+}
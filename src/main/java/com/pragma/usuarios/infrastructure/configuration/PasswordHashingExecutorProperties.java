@@ -0,0 +1,21 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.password.executor")
+public class PasswordHashingExecutorProperties {
+
+    private boolean enabled = true;
+    // Hashing is CPU bound, more threads than cores only adds contention; 0 uses the available processors
+    private int threads;
+    private int queueCapacity = 64;
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,17 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import com.pragma.usuarios.infrastructure.output.security.PasswordHashAlgorithm;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordHashingProperties {
+
+    // Algorithm of new hashes; stored hashes of any algorithm still verify and are rehashed at the next login
+    private PasswordHashAlgorithm algorithm = PasswordHashAlgorithm.BCRYPT;
+}
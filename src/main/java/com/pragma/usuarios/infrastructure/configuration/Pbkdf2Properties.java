@@ -0,0 +1,17 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.password.pbkdf2")
+public class Pbkdf2Properties {
+
+    private int iterations = 600_000;
+    private int saltLength = 16;
+    private int hashLength = 32;
+}
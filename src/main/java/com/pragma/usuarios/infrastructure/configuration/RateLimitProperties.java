@@ -0,0 +1,40 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    // Client addresses tracked per route; beyond this the least frequently seen are dropped
+    private long maximumClients = 100_000;
+    private List<Route> routes = new ArrayList<>(List.of(
+            new Route("login", "POST", "/api/v1/auth/login", 10, Duration.ofMinutes(1)),
+            new Route("client-registration", "POST", "/api/v1/users/clients", 5, Duration.ofMinutes(1))));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Route {
+
+        private String name;
+        private String method;
+        private String path;
+        // Requests a client may burst; the bucket refills at capacity per period
+        private int capacity;
+        private Duration period;
+    }
+}
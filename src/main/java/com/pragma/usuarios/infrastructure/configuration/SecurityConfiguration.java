@@ -1,33 +1,110 @@
 package com.pragma.usuarios.infrastructure.configuration;
 
+import com.pragma.usuarios.infrastructure.output.security.BCryptWorkFactor;
+import com.pragma.usuarios.infrastructure.output.security.BoundedPasswordEncoderAdapter;
+import com.pragma.usuarios.infrastructure.output.security.PasswordEncoderAdapter;
+import com.pragma.usuarios.infrastructure.output.security.PasswordHashAlgorithm;
+import com.pragma.usuarios.infrastructure.output.security.Pbkdf2Sha256PasswordEncoder;
+import com.pragma.usuarios.infrastructure.output.security.RehashingPasswordEncoder;
 import com.pragma.usuarios.infrastructure.security.JwtAuthenticationFilter;
+import com.pragma.usuarios.infrastructure.security.RateLimitFilter;
+import com.pragma.usuarios.infrastructure.security.ServiceKeyAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
+@Slf4j
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
 public class SecurityConfiguration {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final ServiceKeyAuthenticationFilter serviceKeyAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
-    public SecurityConfiguration(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfiguration(JwtAuthenticationFilter jwtAuthenticationFilter,
+                                 ServiceKeyAuthenticationFilter serviceKeyAuthenticationFilter,
+                                 RateLimitFilter rateLimitFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.serviceKeyAuthenticationFilter = serviceKeyAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
+    }
+
+    @Bean
+    public BCryptWorkFactor bcryptWorkFactor(BCryptProperties bcryptProperties) {
+        if (!bcryptProperties.isCalibrate()) {
+            return BCryptWorkFactor.fixed(bcryptProperties.getStrength());
+        }
+
+        BCryptWorkFactor workFactor = BCryptWorkFactor.calibrate(bcryptProperties.getTargetTime(),
+                bcryptProperties.getMinStrength(), bcryptProperties.getMaxStrength());
+        if (workFactor.getHashTime().compareTo(bcryptProperties.getTargetTime()) > 0) {
+            log.warn("BCrypt min strength {} takes {} ms on this host, above the {} ms target",
+                    workFactor.getStrength(), workFactor.getHashTime().toMillis(),
+                    bcryptProperties.getTargetTime().toMillis());
+        } else {
+            log.info("Calibrated BCrypt strength {} hashing a password in {} ms (target {} ms)",
+                    workFactor.getStrength(), workFactor.getHashTime().toMillis(),
+                    bcryptProperties.getTargetTime().toMillis());
+        }
+        return workFactor;
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties,
+                                           BCryptWorkFactor bcryptWorkFactor,
+                                           Pbkdf2Properties pbkdf2Properties,
+                                           Argon2Properties argon2Properties) {
+        PasswordEncoder bcrypt = RehashingPasswordEncoder.bcrypt(bcryptWorkFactor.getStrength());
+        Map<String, PasswordEncoder> encoders = Map.of(
+                PasswordHashAlgorithm.BCRYPT.getId(), bcrypt,
+                PasswordHashAlgorithm.PBKDF2.getId(), new Pbkdf2Sha256PasswordEncoder(
+                        pbkdf2Properties.getIterations(),
+                        pbkdf2Properties.getSaltLength(),
+                        pbkdf2Properties.getHashLength()),
+                PasswordHashAlgorithm.ARGON2.getId(), RehashingPasswordEncoder.argon2(
+                        argon2Properties.getSaltLength(),
+                        argon2Properties.getHashLength(),
+                        argon2Properties.getParallelism(),
+                        argon2Properties.getMemory(),
+                        argon2Properties.getIterations()));
+
+        DelegatingPasswordEncoder passwordEncoder =
+                new DelegatingPasswordEncoder(passwordHashingProperties.getAlgorithm().getId(), encoders);
+        // Hashes stored before the {id} prefix was introduced are plain BCrypt
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @Primary
+    @ConditionalOnProperty(prefix = "security.password.executor", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    public BoundedPasswordEncoderAdapter boundedPasswordEncoderAdapter(
+            PasswordEncoderAdapter passwordEncoderAdapter,
+            PasswordHashingExecutorProperties executorProperties,
+            MeterRegistry meterRegistry) {
+        int threads = executorProperties.getThreads() > 0
+                ? executorProperties.getThreads()
+                : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoderAdapter(passwordEncoderAdapter, threads,
+                executorProperties.getQueueCapacity(), executorProperties.getRetryAfter(), meterRegistry);
     }
 
     @Bean
@@ -37,6 +114,11 @@ public class SecurityConfiguration {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Batch token introspection - only internal services
+                        .requestMatchers(HttpMethod.POST, "/api/v1/auth/introspect")
+                                .hasRole(ServiceKeyAuthenticationFilter.SERVICE_ROLE)
+                        // Forced sign-out - only ADMIN
+                        .requestMatchers(HttpMethod.POST, "/api/v1/auth/users/*/sign-out").hasRole("ADMIN")
                         // Public endpoints
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers(
@@ -49,6 +131,9 @@ public class SecurityConfiguration {
                                 "/swagger-resources/**",
                                 "/webjars/**"
                         ).permitAll()
+                        // Actuator - health is public, metrics only for ADMIN
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // Owner creation - only ADMIN
                         .requestMatchers(HttpMethod.POST, "/api/v1/users/owners").hasRole("ADMIN")
                         // Employee creation - only OWNER
@@ -57,9 +142,15 @@ public class SecurityConfiguration {
                         .requestMatchers(HttpMethod.POST, "/api/v1/users/clients").permitAll()
                         // Get user by ID - allow for service-to-service communication
                         .requestMatchers(HttpMethod.GET, "/api/v1/users/{id}").permitAll()
+                        // Batch user lookup - only internal services
+                        .requestMatchers(HttpMethod.POST, "/api/v1/users/lookup")
+                                .hasRole(ServiceKeyAuthenticationFilter.SERVICE_ROLE)
                         // Any other request requires authentication
                         .anyRequest().authenticated())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(serviceKeyAuthenticationFilter, JwtAuthenticationFilter.class)
+                // Refuses floods before any token check, body parsing or password hash
+                .addFilterBefore(rateLimitFilter, ServiceKeyAuthenticationFilter.class)
                 .build();
     }
 }
@@ -0,0 +1,20 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.service")
+public class ServiceAuthenticationProperties {
+
+    private String header = "X-Service-Key";
+    // Shared secrets of the internal callers (API gateway, other services); empty disables service access
+    private List<String> keys = new ArrayList<>();
+}
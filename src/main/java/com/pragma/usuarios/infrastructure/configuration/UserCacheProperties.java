@@ -0,0 +1,19 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "users.cache")
+public class UserCacheProperties {
+
+    private boolean enabled;
+    private long maximumSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(5);
+}
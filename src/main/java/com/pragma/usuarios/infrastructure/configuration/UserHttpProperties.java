@@ -0,0 +1,16 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "users.http")
+public class UserHttpProperties {
+
+    // Cache-Control of user reads; empty sends none
+    private String cacheControl = "no-cache";
+}
@@ -12,6 +12,10 @@ public final class ApiConstants {
     public static final String USERS_OWNERS_PATH = USERS_BASE_PATH + "/owners";
     public static final String USERS_EMPLOYEES_PATH = USERS_BASE_PATH + "/employees";
     public static final String USERS_CLIENTS_PATH = USERS_BASE_PATH + "/clients";
+    public static final String USERS_LOOKUP_PATH = USERS_BASE_PATH + "/lookup";
+
+    public static final String AUTH_BASE_PATH = API_VERSION + "/auth";
+    public static final String JWKS_PATH = AUTH_BASE_PATH + "/.well-known/jwks.json";
 
     public static final String SWAGGER_PATH = "/swagger-ui.html";
     public static final String API_DOCS_PATH = "/api-docs";
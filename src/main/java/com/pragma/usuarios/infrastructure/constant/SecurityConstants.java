@@ -15,6 +15,7 @@ public final class SecurityConstants {
     public static final String JWT_HEADER = "Authorization";
     public static final String BEARER_AUTH_SCHEME = "bearer";
     public static final String JWT_TOKEN_TYPE = "JWT";
+    public static final String JWT_CODEC_QUALIFIER = "jwtCodec";
 
     public static final String ROLE_PREFIX = "ROLE_";
     public static final String SPRING_SECURITY_CONTEXT_HOLDER = "org.springframework.security.context.SecurityContextHolder";
@@ -0,0 +1,17 @@
+package com.pragma.usuarios.infrastructure.http;
+
+import java.time.Duration;
+
+public final class HttpHeaderValues {
+
+    private HttpHeaderValues() {
+    }
+
+    /**
+     * Retry-After is in whole seconds: rounded up so clients never come back early, and at least 1.
+     */
+    public static long retryAfterSeconds(Duration wait) {
+        long seconds = wait.getSeconds() + (wait.getNano() > 0 ? 1 : 0);
+        return Math.max(1, seconds);
+    }
+}
@@ -1,19 +1,27 @@
 package com.pragma.usuarios.infrastructure.input.rest.controller;
 
+import com.pragma.usuarios.application.dto.request.IntrospectRequest;
 import com.pragma.usuarios.application.dto.request.LoginRequest;
+import com.pragma.usuarios.application.dto.request.LogoutRequest;
+import com.pragma.usuarios.application.dto.request.RefreshTokenRequest;
 import com.pragma.usuarios.application.dto.response.AuthResponse;
+import com.pragma.usuarios.application.dto.response.IntrospectResponse;
 import com.pragma.usuarios.application.handler.IAuthHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -23,6 +31,8 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Authentication", description = "Authentication API")
 public class AuthRestController {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final IAuthHandler authHandler;
 
     @Operation(summary = "Login",
@@ -44,4 +54,86 @@ public class AuthRestController {
         AuthResponse response = authHandler.login(request);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "Refresh",
+            description = "Exchanges a refresh token for a new access token and a new refresh token. "
+                    + "Each refresh token can be used once; reusing one revokes every token issued from the same login")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Tokens renewed",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = AuthResponse.class))),
+            @ApiResponse(responseCode = "401",
+                    description = "Invalid, expired or reused refresh token",
+                    content = @Content),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid input data",
+                    content = @Content)
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authHandler.refresh(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Logout",
+            description = "Revokes the bearer access token and, when given, the refresh token. "
+                    + "Always succeeds so it can be retried safely",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204",
+                    description = "Tokens revoked",
+                    content = @Content)
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) LogoutRequest request) {
+        String accessToken = authorization != null && authorization.startsWith(BEARER_PREFIX)
+                ? authorization.substring(BEARER_PREFIX.length())
+                : null;
+        authHandler.logout(accessToken, request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Sign out everywhere",
+            description = "Revokes every access and refresh token issued to the user so far",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204",
+                    description = "User signed out",
+                    content = @Content),
+            @ApiResponse(responseCode = "403",
+                    description = "Forbidden - Only ADMIN can sign users out",
+                    content = @Content),
+            @ApiResponse(responseCode = "404",
+                    description = "User not found",
+                    content = @Content)
+    })
+    @PostMapping("/users/{id}/sign-out")
+    public ResponseEntity<Void> signOutEverywhere(@PathVariable(name = "id") Long id) {
+        authHandler.signOutEverywhere(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Introspect tokens",
+            description = "Verifies up to " + IntrospectRequest.MAX_TOKENS + " access tokens at once and returns, "
+                    + "in the same order, whether each one is active and its claims. Only for internal services "
+                    + "authenticated with a service key")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Tokens introspected",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = IntrospectResponse.class))),
+            @ApiResponse(responseCode = "400",
+                    description = "Empty or oversized batch",
+                    content = @Content),
+            @ApiResponse(responseCode = "403",
+                    description = "Forbidden - Missing or unknown service key",
+                    content = @Content)
+    })
+    @PostMapping("/introspect")
+    public ResponseEntity<IntrospectResponse> introspect(@Valid @RequestBody IntrospectRequest request) {
+        return ResponseEntity.ok(authHandler.introspect(request));
+    }
 }
@@ -0,0 +1,46 @@
+package com.pragma.usuarios.infrastructure.input.rest.controller;
+
+import com.pragma.usuarios.application.dto.response.JwkSetResponse;
+import com.pragma.usuarios.application.handler.IAuthHandler;
+import com.pragma.usuarios.infrastructure.configuration.JwtProperties;
+import com.pragma.usuarios.infrastructure.constant.ApiConstants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Authentication", description = "Authentication API")
+public class JwksRestController {
+
+    private final IAuthHandler authHandler;
+    private final JwtProperties jwtProperties;
+
+    @Operation(summary = "JSON Web Key Set",
+            description = "Public keys that verify issued tokens. Empty when tokens are signed with a shared HMAC secret")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ApiConstants.STATUS_200,
+                    description = "Key set",
+                    content = @Content(mediaType = ApiConstants.APPLICATION_JSON,
+                            schema = @Schema(implementation = JwkSetResponse.class))),
+            @ApiResponse(responseCode = "304",
+                    description = "Key set unchanged since the given ETag",
+                    content = @Content)
+    })
+    @GetMapping(ApiConstants.JWKS_PATH)
+    public ResponseEntity<JwkSetResponse> getJwkSet() {
+        JwkSetResponse response = authHandler.getJwkSet();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(jwtProperties.getJwksMaxAge()).cachePublic())
+                .eTag(Integer.toHexString(response.getKeys().hashCode()))
+                .body(response);
+    }
+}
@@ -3,8 +3,11 @@ package com.pragma.usuarios.infrastructure.input.rest.controller;
 import com.pragma.usuarios.application.dto.request.CreateClientRequest;
 import com.pragma.usuarios.application.dto.request.CreateEmployeeRequest;
 import com.pragma.usuarios.application.dto.request.CreateOwnerRequest;
+import com.pragma.usuarios.application.dto.request.UserLookupRequest;
+import com.pragma.usuarios.application.dto.response.UserLookupResponse;
 import com.pragma.usuarios.application.dto.response.UserResponse;
 import com.pragma.usuarios.application.handler.IUserHandler;
+import com.pragma.usuarios.infrastructure.configuration.UserHttpProperties;
 import com.pragma.usuarios.infrastructure.constant.ApiConstants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,8 +18,10 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -24,6 +29,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Instant;
+
 @RestController
 @RequestMapping(ApiConstants.USERS_BASE_PATH)
 @RequiredArgsConstructor
@@ -31,6 +38,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserRestController {
 
     private final IUserHandler userHandler;
+    private final UserHttpProperties userHttpProperties;
 
     @Operation(summary = "Create owner",
             description = "Creates a user account with OWNER role. Only ADMIN can perform this action.",
@@ -108,13 +116,17 @@ public class UserRestController {
     }
 
     @Operation(summary = "Get user by ID",
-            description = "Retrieves a user by their ID",
+            description = "Retrieves a user by their ID. The response carries an ETag and Last-Modified, "
+                    + "send them back as If-None-Match or If-Modified-Since to get a 304 while it is unchanged",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "User found",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = UserResponse.class))),
+            @ApiResponse(responseCode = "304",
+                    description = "User not modified since the given ETag or date",
+                    content = @Content),
             @ApiResponse(responseCode = "401",
                     description = "Unauthorized - Authentication required",
                     content = @Content),
@@ -125,7 +137,50 @@ public class UserRestController {
     @GetMapping("/{id}")
     public ResponseEntity<UserResponse> getUserById(@PathVariable(name = "id") Long id) {
         return userHandler.getUserById(id)
-                .map(ResponseEntity::ok)
+                .map(this::conditionalOk)
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    @Operation(summary = "Look up users",
+            description = "Retrieves up to " + UserLookupRequest.MAX_IDS + " users by ID in one call, in the "
+                    + "order requested, and lists the IDs that were not found. Only internal services "
+                    + "authenticated with a service key")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Users looked up",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UserLookupResponse.class))),
+            @ApiResponse(responseCode = "400",
+                    description = "Empty or oversized batch",
+                    content = @Content),
+            @ApiResponse(responseCode = "403",
+                    description = "Forbidden - Missing or unknown service key",
+                    content = @Content)
+    })
+    @PostMapping("/lookup")
+    public ResponseEntity<UserLookupResponse> lookupUsers(@Valid @RequestBody UserLookupRequest request) {
+        return ResponseEntity.ok(userHandler.lookupUsers(request));
+    }
+
+    // With an ETag or Last-Modified set, Spring answers a matching If-None-Match or If-Modified-Since with 304
+    // and these headers, without serializing the body
+    private ResponseEntity<UserResponse> conditionalOk(UserResponse user) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (StringUtils.hasText(userHttpProperties.getCacheControl())) {
+            response.header(HttpHeaders.CACHE_CONTROL, userHttpProperties.getCacheControl());
+        }
+        Instant updatedAt = user.getUpdatedAt();
+        if (updatedAt != null) {
+            response.eTag(eTag(user.getId(), updatedAt))
+                    .lastModified(updatedAt);
+        }
+        return response.body(user);
+    }
+
+    // Strong: updatedAt is the latest write to the user, credential or employee restaurant row, to the
+    // microsecond, so any change to the profile changes the tag; a password change does too, needlessly but safely
+    static String eTag(Long id, Instant updatedAt) {
+        long micros = updatedAt.getEpochSecond() * 1_000_000L + updatedAt.getNano() / 1_000;
+        return "\"" + id + "-" + Long.toHexString(micros) + "\"";
+    }
 }
@@ -0,0 +1,114 @@
+package com.pragma.usuarios.infrastructure.output.jpa.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.spi.IUserPersistencePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Serves {@link #findById} from memory, since users barely change once created and sibling services read them on
+ * every order. Every write the port exposes drops the entry of the user it changes, so reads on this instance see
+ * their own writes; a write made through another instance is seen once the entry expires. Concurrent misses for
+ * one id wait for a single load and unknown ids are not cached. Lookups by email keep reading the database, so
+ * logins always check the current password hash.
+ */
+public class CachingUserPersistenceAdapter implements IUserPersistencePort, MeterBinder {
+
+    private static final String CACHE_NAME = "users.by-id";
+
+    private final IUserPersistencePort delegate;
+    private final Cache<Long, User> users;
+
+    public CachingUserPersistenceAdapter(IUserPersistencePort delegate, long maximumSize, Duration ttl) {
+        this(delegate, maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    CachingUserPersistenceAdapter(IUserPersistencePort delegate, long maximumSize, Duration ttl, Ticker ticker) {
+        this.delegate = delegate;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public User saveUser(User user) {
+        User saved = delegate.saveUser(user);
+        users.invalidate(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return Optional.ofNullable(users.get(id, key -> delegate.findById(key).orElse(null)));
+    }
+
+    @Override
+    public List<User> findAllByIds(Collection<Long> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public Optional<User> findByIdentityDocument(String identityDocument) {
+        return delegate.findByIdentityDocument(identityDocument);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public boolean existsByIdentityDocument(String identityDocument) {
+        return delegate.existsByIdentityDocument(identityDocument);
+    }
+
+    @Override
+    public Optional<Integer> incrementTokenVersion(Long userId) {
+        try {
+            return delegate.incrementTokenVersion(userId);
+        } finally {
+            users.invalidate(userId);
+        }
+    }
+
+    @Override
+    public void updatePassword(Long userId, String encodedPassword) {
+        try {
+            delegate.updatePassword(userId, encodedPassword);
+        } finally {
+            users.invalidate(userId);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, users, CACHE_NAME);
+    }
+
+    public CacheStats stats() {
+        return users.stats();
+    }
+
+    public long estimatedSize() {
+        return users.estimatedSize();
+    }
+}
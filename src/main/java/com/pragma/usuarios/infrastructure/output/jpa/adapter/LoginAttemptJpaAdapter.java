@@ -0,0 +1,114 @@
+package com.pragma.usuarios.infrastructure.output.jpa.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.pragma.usuarios.domain.spi.ILoginAttemptPort;
+import com.pragma.usuarios.infrastructure.configuration.LoginAttemptProperties;
+import com.pragma.usuarios.infrastructure.output.jpa.repository.ILoginAttemptRepository;
+import com.pragma.usuarios.infrastructure.output.security.LoginBackoffPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Failed logins per email in the {@code login_attempts} table, so a lockout holds on every instance and an attacker
+ * gets the same number of password checks whatever the number of replicas. Failures are counted with one upsert,
+ * locks follow the {@link LoginBackoffPolicy}. Locks seen or set here are also kept in memory until they end, so
+ * the logins of a locked email are rejected without a query.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "security.login-attempts", name = "store", havingValue = "jpa", matchIfMissing = true)
+public class LoginAttemptJpaAdapter implements ILoginAttemptPort {
+
+    private final ILoginAttemptRepository loginAttemptRepository;
+    private final LoginBackoffPolicy policy;
+    private final Clock clock;
+    private final Cache<String, Instant> knownLocks;
+
+    public LoginAttemptJpaAdapter(ILoginAttemptRepository loginAttemptRepository, LoginAttemptProperties properties) {
+        this(loginAttemptRepository, properties, Clock.systemUTC());
+    }
+
+    LoginAttemptJpaAdapter(ILoginAttemptRepository loginAttemptRepository, LoginAttemptProperties properties,
+                           Clock clock) {
+        this.loginAttemptRepository = loginAttemptRepository;
+        this.policy = new LoginBackoffPolicy(properties);
+        this.clock = clock;
+        this.knownLocks = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new ExpireWhenUnlocked())
+                .executor(Runnable::run)
+                .build();
+    }
+
+    @Override
+    public boolean isLocked(String email) {
+        Instant now = clock.instant();
+        Instant lockedUntil = knownLocks.getIfPresent(email);
+        if (lockedUntil != null && now.isBefore(lockedUntil)) {
+            return true;
+        }
+        return loginAttemptRepository.findLockedUntil(email, now)
+                .map(until -> {
+                    knownLocks.put(email, until);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    @Override
+    @Transactional
+    public boolean recordFailure(String email) {
+        Instant now = clock.instant();
+        int failures = loginAttemptRepository.recordFailure(email, now, now.plusMillis(policy.windowMillis()));
+        if (!policy.locks(failures)) {
+            return false;
+        }
+        Instant lockedUntil = now.plusMillis(policy.lockMillis(failures));
+        loginAttemptRepository.lock(email, failures, lockedUntil, lockedUntil.plusMillis(policy.windowMillis()));
+        knownLocks.put(email, lockedUntil);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void recordSuccess(String email) {
+        loginAttemptRepository.deleteByEmail(email);
+        knownLocks.invalidate(email);
+    }
+
+    @Override
+    @Transactional
+    public void purgeExpired() {
+        int purged = loginAttemptRepository.deleteForgotten(clock.instant());
+        if (purged > 0) {
+            log.debug("Purged {} forgotten login attempts", purged);
+        }
+        knownLocks.cleanUp();
+    }
+
+    private final class ExpireWhenUnlocked implements Expiry<String, Instant> {
+
+        @Override
+        public long expireAfterCreate(String email, Instant lockedUntil, long currentTime) {
+            return Math.max(Duration.between(clock.instant(), lockedUntil).toNanos(), 0L);
+        }
+
+        @Override
+        public long expireAfterUpdate(String email, Instant lockedUntil, long currentTime, long currentDuration) {
+            return expireAfterCreate(email, lockedUntil, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String email, Instant lockedUntil, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
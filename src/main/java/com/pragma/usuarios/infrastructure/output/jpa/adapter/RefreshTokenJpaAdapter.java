@@ -0,0 +1,57 @@
+package com.pragma.usuarios.infrastructure.output.jpa.adapter;
+
+import com.pragma.usuarios.domain.model.RefreshToken;
+import com.pragma.usuarios.domain.spi.IRefreshTokenPersistencePort;
+import com.pragma.usuarios.infrastructure.output.jpa.mapper.RefreshTokenEntityMapper;
+import com.pragma.usuarios.infrastructure.output.jpa.repository.IRefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "jwt.refresh", name = "store", havingValue = "jpa", matchIfMissing = true)
+public class RefreshTokenJpaAdapter implements IRefreshTokenPersistencePort {
+
+    private final IRefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenEntityMapper refreshTokenEntityMapper;
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+        refreshTokenRepository.save(refreshTokenEntityMapper.toEntity(refreshToken));
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return refreshTokenRepository.findByTokenHash(tokenHash)
+                .map(refreshTokenEntityMapper::toModel);
+    }
+
+    @Override
+    @Transactional
+    public boolean markUsed(String tokenHash, Instant usedAt) {
+        return refreshTokenRepository.markUsed(tokenHash, usedAt) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void revokeFamily(String familyId, Instant revokedAt) {
+        refreshTokenRepository.revokeFamily(familyId, revokedAt);
+    }
+
+    @Override
+    @Transactional
+    public void revokeAllForUser(Long userId, Instant revokedAt) {
+        refreshTokenRepository.revokeAllForUser(userId, revokedAt);
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(Instant now) {
+        return refreshTokenRepository.deleteExpired(now);
+    }
+}
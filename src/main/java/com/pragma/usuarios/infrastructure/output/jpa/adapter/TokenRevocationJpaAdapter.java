@@ -0,0 +1,121 @@
+package com.pragma.usuarios.infrastructure.output.jpa.adapter;
+
+import com.pragma.usuarios.domain.model.TokenClaims;
+import com.pragma.usuarios.domain.spi.ITokenRevocationPort;
+import com.pragma.usuarios.infrastructure.output.jpa.entity.RevokedTokenEntity;
+import com.pragma.usuarios.infrastructure.output.jpa.repository.IRevokedTokenRepository;
+import com.pragma.usuarios.infrastructure.output.jpa.repository.IUserRepository;
+import com.pragma.usuarios.infrastructure.output.security.TokenDenylist;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Answers revocation checks from a {@link TokenDenylist} and writes revocations through to the
+ * {@code revoked_tokens} table and the users' token versions. The denylist is loaded before the application
+ * serves requests and merged with the database every {@code jwt.revocation.sync-interval}, which is also how
+ * revocations made on other instances arrive here. Only the first load reads every row; later syncs read the rows
+ * revoked or signed out after the newest one already merged.
+ */
+@Slf4j
+@Component
+public class TokenRevocationJpaAdapter implements ITokenRevocationPort, InitializingBean {
+
+    // Rows are stamped by the database when written but become visible when committed, so a slow transaction can
+    // commit a timestamp older than the newest one merged; syncs re-read this window to pick such rows up
+    static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final IRevokedTokenRepository revokedTokenRepository;
+    private final IUserRepository userRepository;
+    private final TokenDenylist denylist;
+    private final Clock clock;
+    private Instant revokedTokensSyncedAt;
+    private Instant tokenVersionsSyncedAt;
+
+    public TokenRevocationJpaAdapter(IRevokedTokenRepository revokedTokenRepository, IUserRepository userRepository) {
+        this(revokedTokenRepository, userRepository, new TokenDenylist(), Clock.systemUTC());
+    }
+
+    TokenRevocationJpaAdapter(IRevokedTokenRepository revokedTokenRepository, IUserRepository userRepository,
+                              TokenDenylist denylist, Clock clock) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userRepository = userRepository;
+        this.denylist = denylist;
+        this.clock = clock;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        synchronize();
+        log.info("Loaded {} revoked tokens and {} signed-out users",
+                denylist.revokedTokenCount(), denylist.signedOutUserCount());
+    }
+
+    @Override
+    public boolean isRevoked(TokenClaims claims) {
+        return denylist.isRevoked(claims.getTokenId(), claims.getUserId(), claims.tokenVersionOrZero());
+    }
+
+    @Override
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        revokedTokenRepository.insertIfAbsent(tokenId, expiresAt);
+        denylist.revokeToken(tokenId, expiresAt);
+    }
+
+    @Override
+    public void revokeTokensBefore(Long userId, int tokenVersion) {
+        // The version itself is persisted by IUserPersistencePort.incrementTokenVersion
+        denylist.revokeTokensBefore(userId, tokenVersion);
+    }
+
+    @Override
+    public void purgeExpired() {
+        Instant now = clock.instant();
+        denylist.prune(now);
+        int purged = revokedTokenRepository.deleteExpired(now);
+        if (purged > 0) {
+            log.debug("Purged {} expired revoked tokens", purged);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:30s}",
+            initialDelayString = "${jwt.revocation.sync-interval:30s}")
+    public synchronized void synchronize() {
+        Instant now = clock.instant();
+        denylist.prune(now);
+
+        List<RevokedTokenEntity> revokedTokens = revokedTokensSyncedAt == null
+                ? revokedTokenRepository.findAllByExpiresAtAfter(now)
+                : revokedTokenRepository.findAllByRevokedAtAfterAndExpiresAtAfter(
+                        revokedTokensSyncedAt.minus(SYNC_OVERLAP), now);
+        revokedTokens.forEach(revoked -> denylist.revokeToken(revoked.getTokenId(), revoked.getExpiresAt()));
+        revokedTokensSyncedAt = newest(revokedTokensSyncedAt, revokedTokens, RevokedTokenEntity::getRevokedAt);
+
+        List<IUserRepository.TokenVersionView> signedOutUsers = tokenVersionsSyncedAt == null
+                ? userRepository.findSignedOutTokenVersions()
+                : userRepository.findSignedOutTokenVersionsAfter(tokenVersionsSyncedAt.minus(SYNC_OVERLAP));
+        signedOutUsers.forEach(user -> denylist.revokeTokensBefore(user.getId(), user.getTokenVersion()));
+        tokenVersionsSyncedAt = newest(tokenVersionsSyncedAt, signedOutUsers,
+                IUserRepository.TokenVersionView::getTokenVersionUpdatedAt);
+    }
+
+    // Follows the database's timestamps rather than this instance's clock; while nothing has been merged the mark
+    // stays at the epoch, which still reads only the rows written since
+    private static <T> Instant newest(Instant syncedAt, List<T> rows, Function<T, Instant> stampedAt) {
+        Instant newest = rows.stream()
+                .map(stampedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(syncedAt);
+        return newest != null ? newest : Instant.EPOCH;
+    }
+}
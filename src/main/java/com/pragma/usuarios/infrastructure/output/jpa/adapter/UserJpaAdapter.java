@@ -13,6 +13,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -50,18 +52,31 @@ public class UserJpaAdapter implements IUserPersistencePort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> findById(Long id) {
-        return userRepository.findById(id)
-                .flatMap(this::toModel);
+        // Read by sibling services on every order: one statement, no managed entities to flush or dirty check
+        return credentialRepository.findAccountByUserId(id)
+                .map(userEntityMapper::toModel);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findAllByIds(Collection<Long> ids) {
+        return credentialRepository.findAccountsByUserIds(ids).stream()
+                .map(userEntityMapper::toModel)
+                .toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
-        return credentialRepository.findByEmail(email)
-                .map(credential -> toModel(credential.getUser(), credential, employeeRestaurantRepository.findByUserId(credential.getUser().getId())));
+        // Hottest read path: one statement per login
+        return credentialRepository.findAccountByEmail(email)
+                .map(userEntityMapper::toModel);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> findByIdentityDocument(String identityDocument) {
         return userRepository.findByIdentityDocument(identityDocument)
                 .flatMap(this::toModel);
@@ -77,6 +92,21 @@ public class UserJpaAdapter implements IUserPersistencePort {
         return userRepository.existsByIdentityDocument(identityDocument);
     }
 
+    @Override
+    @Transactional
+    public Optional<Integer> incrementTokenVersion(Long userId) {
+        if (userRepository.incrementTokenVersion(userId) == 0) {
+            return Optional.empty();
+        }
+        return userRepository.findTokenVersionById(userId);
+    }
+
+    @Override
+    @Transactional
+    public void updatePassword(Long userId, String encodedPassword) {
+        credentialRepository.updatePassword(userId, encodedPassword);
+    }
+
     private Optional<User> toModel(UserEntity userEntity) {
         return credentialRepository.findByUserId(userEntity.getId())
                 .map(credential -> toModel(userEntity, credential, employeeRestaurantRepository.findByUserId(userEntity.getId())));
@@ -0,0 +1,36 @@
+package com.pragma.usuarios.infrastructure.output.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "login_attempts")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginAttemptEntity {
+
+    @Id
+    @Column(length = 255)
+    private String email;
+
+    @Column(nullable = false)
+    private int failures;
+
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+
+    @Column(name = "forget_at", nullable = false)
+    private Instant forgetAt;
+}
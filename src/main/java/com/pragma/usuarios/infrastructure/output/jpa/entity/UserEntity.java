@@ -9,6 +9,7 @@ import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -43,10 +44,17 @@ public class UserEntity {
     @JoinColumn(name = "role_id", nullable = false)
     private RoleEntity role;
 
+    // Database default on insert, only changed through IUserRepository.incrementTokenVersion
+    @Column(name = "token_version", nullable = false, insertable = false, updatable = false)
+    private Integer tokenVersion;
+
+    @Column(name = "token_version_updated_at", insertable = false, updatable = false)
+    private Instant tokenVersionUpdatedAt;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
     @UpdateTimestamp
-    private LocalDateTime updatedAt;
+    private Instant updatedAt;
 }
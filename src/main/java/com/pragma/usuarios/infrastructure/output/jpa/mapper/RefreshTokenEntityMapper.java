@@ -0,0 +1,16 @@
+package com.pragma.usuarios.infrastructure.output.jpa.mapper;
+
+import com.pragma.usuarios.domain.model.RefreshToken;
+import com.pragma.usuarios.infrastructure.output.jpa.entity.RefreshTokenEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring",
+        unmappedTargetPolicy = ReportingPolicy.IGNORE,
+        unmappedSourcePolicy = ReportingPolicy.IGNORE)
+public interface RefreshTokenEntityMapper {
+
+    RefreshTokenEntity toEntity(RefreshToken refreshToken);
+
+    RefreshToken toModel(RefreshTokenEntity refreshTokenEntity);
+}
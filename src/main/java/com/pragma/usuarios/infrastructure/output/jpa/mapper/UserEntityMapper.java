@@ -2,7 +2,9 @@ package com.pragma.usuarios.infrastructure.output.jpa.mapper;
 
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.infrastructure.output.jpa.entity.UserEntity;
+import com.pragma.usuarios.infrastructure.output.jpa.repository.ICredentialRepository.UserAccountView;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
 @Mapper(componentModel = "spring",
@@ -14,4 +16,9 @@ public interface UserEntityMapper {
     UserEntity toEntity(User user);
 
     User toModel(UserEntity userEntity);
+
+    @Mapping(target = "role.id", source = "roleId")
+    @Mapping(target = "role.name", source = "roleName")
+    @Mapping(target = "role.description", source = "roleDescription")
+    User toModel(UserAccountView userAccount);
 }
@@ -2,14 +2,75 @@ package com.pragma.usuarios.infrastructure.output.jpa.repository;
 
 import com.pragma.usuarios.infrastructure.output.jpa.entity.CredentialEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ICredentialRepository extends JpaRepository<CredentialEntity, Long> {
 
-    Optional<CredentialEntity> findByEmail(String email);
-
     Optional<CredentialEntity> findByUserId(Long userId);
 
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    // Credential, user, role and employee restaurant in one statement, without loading entities. updatedAt is the
+    // latest write to any of the rows a profile is read from; roles are reference data changed only by migrations
+    String SELECT_ACCOUNT = "SELECT u.id AS id, u.firstName AS firstName, u.lastName AS lastName, "
+            + "u.identityDocument AS identityDocument, u.phone AS phone, u.birthDate AS birthDate, "
+            + "u.tokenVersion AS tokenVersion, "
+            + "GREATEST(u.updatedAt, c.updatedAt, COALESCE(er.updatedAt, u.updatedAt)) AS updatedAt, "
+            + "r.id AS roleId, r.name AS roleName, r.description AS roleDescription, "
+            + "c.email AS email, c.password AS password, er.restaurantId AS restaurantId "
+            + "FROM CredentialEntity c JOIN c.user u JOIN u.role r "
+            + "LEFT JOIN EmployeeRestaurantEntity er ON er.user = u ";
+
+    @Query(SELECT_ACCOUNT + "WHERE c.email = :email")
+    Optional<UserAccountView> findAccountByEmail(@Param("email") String email);
+
+    @Query(SELECT_ACCOUNT + "WHERE u.id = :userId")
+    Optional<UserAccountView> findAccountByUserId(@Param("userId") Long userId);
+
+    @Query(SELECT_ACCOUNT + "WHERE u.id IN :userIds")
+    List<UserAccountView> findAccountsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("UPDATE CredentialEntity c SET c.password = :password, c.updatedAt = INSTANT "
+            + "WHERE c.user.id = :userId")
+    int updatePassword(@Param("userId") Long userId, @Param("password") String password);
+
+    interface UserAccountView {
+
+        Long getId();
+
+        String getFirstName();
+
+        String getLastName();
+
+        String getIdentityDocument();
+
+        String getPhone();
+
+        LocalDate getBirthDate();
+
+        Integer getTokenVersion();
+
+        Instant getUpdatedAt();
+
+        Long getRoleId();
+
+        String getRoleName();
+
+        String getRoleDescription();
+
+        String getEmail();
+
+        String getPassword();
+
+        Long getRestaurantId();
+    }
+}
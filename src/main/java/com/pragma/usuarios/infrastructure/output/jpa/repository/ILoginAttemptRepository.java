@@ -0,0 +1,45 @@
+package com.pragma.usuarios.infrastructure.output.jpa.repository;
+
+import com.pragma.usuarios.infrastructure.output.jpa.entity.LoginAttemptEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface ILoginAttemptRepository extends Repository<LoginAttemptEntity, String> {
+
+    /**
+     * Counts one more failure, or the first one again once the previous failures are forgotten, in a single
+     * statement so concurrent failures on any instance are all counted.
+     *
+     * @return the failures of the email including this one
+     */
+    @Query(nativeQuery = true, value = """
+            INSERT INTO login_attempts (email, failures, locked_until, forget_at)
+            VALUES (:email, 1, NULL, :forgetAt)
+            ON CONFLICT (email) DO UPDATE SET
+                failures = CASE WHEN login_attempts.forget_at <= :now THEN 1 ELSE login_attempts.failures + 1 END,
+                forget_at = GREATEST(login_attempts.forget_at, :forgetAt)
+            RETURNING failures""")
+    int recordFailure(@Param("email") String email, @Param("now") Instant now, @Param("forgetAt") Instant forgetAt);
+
+    @Modifying
+    @Query("UPDATE LoginAttemptEntity a SET a.lockedUntil = :lockedUntil, a.forgetAt = :forgetAt "
+            + "WHERE a.email = :email AND a.failures = :failures")
+    int lock(@Param("email") String email, @Param("failures") int failures,
+             @Param("lockedUntil") Instant lockedUntil, @Param("forgetAt") Instant forgetAt);
+
+    @Query("SELECT a.lockedUntil FROM LoginAttemptEntity a WHERE a.email = :email AND a.lockedUntil > :now")
+    Optional<Instant> findLockedUntil(@Param("email") String email, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM LoginAttemptEntity a WHERE a.email = :email")
+    int deleteByEmail(@Param("email") String email);
+
+    @Modifying
+    @Query("DELETE FROM LoginAttemptEntity a WHERE a.forgetAt <= :now")
+    int deleteForgotten(@Param("now") Instant now);
+}
@@ -0,0 +1,31 @@
+package com.pragma.usuarios.infrastructure.output.jpa.repository;
+
+import com.pragma.usuarios.infrastructure.output.jpa.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface IRefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
+
+    Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity r SET r.usedAt = :usedAt WHERE r.tokenHash = :tokenHash AND r.usedAt IS NULL")
+    int markUsed(@Param("tokenHash") String tokenHash, @Param("usedAt") Instant usedAt);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity r SET r.usedAt = :revokedAt WHERE r.familyId = :familyId AND r.usedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("revokedAt") Instant revokedAt);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity r SET r.usedAt = :revokedAt WHERE r.userId = :userId AND r.usedAt IS NULL")
+    int revokeAllForUser(@Param("userId") Long userId, @Param("revokedAt") Instant revokedAt);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
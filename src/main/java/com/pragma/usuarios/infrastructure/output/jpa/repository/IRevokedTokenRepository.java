@@ -0,0 +1,36 @@
+package com.pragma.usuarios.infrastructure.output.jpa.repository;
+
+import com.pragma.usuarios.infrastructure.output.jpa.entity.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface IRevokedTokenRepository extends JpaRepository<RevokedTokenEntity, String> {
+
+    List<RevokedTokenEntity> findAllByExpiresAtAfter(Instant now);
+
+    List<RevokedTokenEntity> findAllByRevokedAtAfterAndExpiresAtAfter(Instant since, Instant now);
+
+    /**
+     * Inserts without reading first, and revoking a token twice, from any instance, is a no-op.
+     *
+     * @return 1 when the token was not revoked yet, otherwise 0
+     */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO revoked_tokens (token_id, expires_at)
+            VALUES (:tokenId, :expiresAt)
+            ON CONFLICT (token_id) DO NOTHING""")
+    int insertIfAbsent(@Param("tokenId") String tokenId, @Param("expiresAt") Instant expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedTokenEntity r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
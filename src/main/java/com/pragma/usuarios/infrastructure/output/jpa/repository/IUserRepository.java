@@ -2,7 +2,12 @@ package com.pragma.usuarios.infrastructure.output.jpa.repository;
 
 import com.pragma.usuarios.infrastructure.output.jpa.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface IUserRepository extends JpaRepository<UserEntity, Long> {
@@ -10,4 +15,30 @@ public interface IUserRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByIdentityDocument(String identityDocument);
 
     boolean existsByIdentityDocument(String identityDocument);
+
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.tokenVersion = u.tokenVersion + 1, u.tokenVersionUpdatedAt = INSTANT "
+            + "WHERE u.id = :id")
+    int incrementTokenVersion(@Param("id") Long id);
+
+    @Query("SELECT u.tokenVersion FROM UserEntity u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    String SELECT_TOKEN_VERSION = "SELECT u.id AS id, u.tokenVersion AS tokenVersion, "
+            + "u.tokenVersionUpdatedAt AS tokenVersionUpdatedAt FROM UserEntity u WHERE u.tokenVersion > 0";
+
+    @Query(SELECT_TOKEN_VERSION)
+    List<TokenVersionView> findSignedOutTokenVersions();
+
+    @Query(SELECT_TOKEN_VERSION + " AND u.tokenVersionUpdatedAt > :since")
+    List<TokenVersionView> findSignedOutTokenVersionsAfter(@Param("since") Instant since);
+
+    interface TokenVersionView {
+
+        Long getId();
+
+        Integer getTokenVersion();
+
+        Instant getTokenVersionUpdatedAt();
+    }
 }
@@ -0,0 +1,145 @@
+package com.pragma.usuarios.infrastructure.output.memory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.pragma.usuarios.domain.spi.ILoginAttemptPort;
+import com.pragma.usuarios.infrastructure.configuration.LoginAttemptProperties;
+import com.pragma.usuarios.infrastructure.output.security.LoginBackoffPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Failed logins per email of this instance only, for a single instance or tests. Each email has one word holding
+ * its failure count and the time of its last failure, updated with compare-and-set so parallel failures are all
+ * counted and every lockout decision sees a consistent count and time. Locks follow the {@link LoginBackoffPolicy}.
+ * <p>
+ * At most the maximum size of emails are tracked, the least frequently seen evicted first, and the periodic sweep
+ * drops the emails whose failures are forgotten, so logins with random emails keep memory flat.
+ */
+@Component
+@ConditionalOnProperty(prefix = "security.login-attempts", name = "store", havingValue = "memory")
+public class InMemoryLoginAttemptAdapter implements ILoginAttemptPort, MeterBinder {
+
+    private static final String CACHE_NAME = "auth.login-attempts";
+
+    // state word: milliseconds of the last failure since the adapter started (high 48 bits), failures (low 16 bits)
+    private static final int COUNT_BITS = 16;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    // set by a sweep or a successful login before the entry is removed; writers that see it start a new entry
+    private static final long RETIRED = -1L;
+
+    private final LoginBackoffPolicy policy;
+    private final Ticker ticker;
+    private final long origin;
+    private final Cache<String, AtomicLong> states;
+
+    public InMemoryLoginAttemptAdapter(LoginAttemptProperties properties) {
+        this(properties, Ticker.systemTicker());
+    }
+
+    InMemoryLoginAttemptAdapter(LoginAttemptProperties properties, Ticker ticker) {
+        this.policy = new LoginBackoffPolicy(properties);
+        this.ticker = ticker;
+        this.origin = ticker.read();
+        // An entry idle this long is forgotten whatever its state; the sweep usually drops it much sooner
+        this.states = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterAccess(policy.retentionMillis(), TimeUnit.MILLISECONDS)
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public boolean isLocked(String email) {
+        AtomicLong state = states.getIfPresent(email);
+        if (state == null) {
+            return false;
+        }
+        long word = state.get();
+        return word != RETIRED && nowMillis() < lastFailure(word) + policy.lockMillis(count(word));
+    }
+
+    @Override
+    public boolean recordFailure(String email) {
+        while (true) {
+            AtomicLong state = states.get(email, _ -> new AtomicLong());
+            long now = nowMillis();
+            long word = state.get();
+            while (word != RETIRED) {
+                int count = isForgotten(word, now) ? 1 : (int) Math.min(count(word) + 1, COUNT_MASK);
+                // a thread that read the clock later may have won the previous round, time never goes back
+                if (state.compareAndSet(word, pack(Math.max(now, lastFailure(word)), count))) {
+                    return policy.locks(count);
+                }
+                word = state.get();
+            }
+            states.asMap().remove(email, state);
+        }
+    }
+
+    @Override
+    public void recordSuccess(String email) {
+        AtomicLong state = states.getIfPresent(email);
+        if (state != null) {
+            state.set(RETIRED);
+            states.asMap().remove(email, state);
+        }
+    }
+
+    @Override
+    public void purgeExpired() {
+        long now = nowMillis();
+        states.asMap().forEach((email, state) -> {
+            long word = state.get();
+            if (word != RETIRED && isForgotten(word, now) && state.compareAndSet(word, RETIRED)) {
+                states.asMap().remove(email, state);
+            }
+        });
+        states.cleanUp();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, states, CACHE_NAME);
+    }
+
+    long estimatedSize() {
+        return states.estimatedSize();
+    }
+
+    int failureCount(String email) {
+        AtomicLong state = states.getIfPresent(email);
+        long word = state == null ? RETIRED : state.get();
+        return word == RETIRED ? 0 : count(word);
+    }
+
+    private boolean isForgotten(long word, long now) {
+        int count = count(word);
+        return count == 0 || now >= lastFailure(word) + policy.lockMillis(count) + policy.windowMillis();
+    }
+
+    private long nowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(ticker.read() - origin);
+    }
+
+    private static long pack(long lastFailure, int count) {
+        return lastFailure << COUNT_BITS | count;
+    }
+
+    private static long lastFailure(long word) {
+        return word >>> COUNT_BITS;
+    }
+
+    private static int count(long word) {
+        return (int) (word & COUNT_MASK);
+    }
+}
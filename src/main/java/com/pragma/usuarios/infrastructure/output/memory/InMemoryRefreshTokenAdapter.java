@@ -0,0 +1,93 @@
+package com.pragma.usuarios.infrastructure.output.memory;
+
+import com.pragma.usuarios.domain.model.RefreshToken;
+import com.pragma.usuarios.domain.spi.IRefreshTokenPersistencePort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Refresh token store for a single instance or tests. Tokens do not survive a restart, which only forces
+ * users to log in again.
+ */
+@Component
+@ConditionalOnProperty(prefix = "jwt.refresh", name = "store", havingValue = "memory")
+public class InMemoryRefreshTokenAdapter implements IRefreshTokenPersistencePort {
+
+    private final Map<String, RefreshToken> tokens = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+        tokens.put(refreshToken.getTokenHash(), copy(refreshToken));
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return Optional.ofNullable(tokens.get(tokenHash)).map(InMemoryRefreshTokenAdapter::copy);
+    }
+
+    @Override
+    public boolean markUsed(String tokenHash, Instant usedAt) {
+        boolean[] marked = new boolean[1];
+        tokens.computeIfPresent(tokenHash, (hash, token) -> {
+            if (token.isUsed()) {
+                return token;
+            }
+            marked[0] = true;
+            RefreshToken used = copy(token);
+            used.setUsedAt(usedAt);
+            return used;
+        });
+        return marked[0];
+    }
+
+    @Override
+    public void revokeFamily(String familyId, Instant revokedAt) {
+        tokens.replaceAll((hash, token) -> {
+            if (!familyId.equals(token.getFamilyId()) || token.isUsed()) {
+                return token;
+            }
+            RefreshToken revoked = copy(token);
+            revoked.setUsedAt(revokedAt);
+            return revoked;
+        });
+    }
+
+    @Override
+    public void revokeAllForUser(Long userId, Instant revokedAt) {
+        tokens.replaceAll((hash, token) -> {
+            if (!userId.equals(token.getUserId()) || token.isUsed()) {
+                return token;
+            }
+            RefreshToken revoked = copy(token);
+            revoked.setUsedAt(revokedAt);
+            return revoked;
+        });
+    }
+
+    @Override
+    public int deleteExpired(Instant now) {
+        int removed = 0;
+        for (Map.Entry<String, RefreshToken> entry : tokens.entrySet()) {
+            if (entry.getValue().isExpiredAt(now) && tokens.remove(entry.getKey(), entry.getValue())) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static RefreshToken copy(RefreshToken token) {
+        return RefreshToken.builder()
+                .tokenHash(token.getTokenHash())
+                .familyId(token.getFamilyId())
+                .userId(token.getUserId())
+                .audience(token.getAudience())
+                .expiresAt(token.getExpiresAt())
+                .usedAt(token.getUsedAt())
+                .build();
+    }
+}
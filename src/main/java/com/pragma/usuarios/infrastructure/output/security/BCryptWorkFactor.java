@@ -0,0 +1,116 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * The BCrypt cost used to hash passwords and, when it was calibrated, how long one hash took on this host when the
+ * service started.
+ */
+public final class BCryptWorkFactor implements MeterBinder {
+
+    public static final int MIN_STRENGTH = 4;
+    public static final int MAX_STRENGTH = 31;
+
+    private static final String SAMPLE_PASSWORD = "bcrypt-calibration-sample";
+    private static final int SAMPLES = 3;
+
+    private final int strength;
+    private final Duration hashTime;
+
+    public BCryptWorkFactor(int strength, Duration hashTime) {
+        if (strength < MIN_STRENGTH || strength > MAX_STRENGTH) {
+            throw new IllegalArgumentException("BCrypt strength must be between " + MIN_STRENGTH + " and "
+                    + MAX_STRENGTH + " but was " + strength);
+        }
+        this.strength = strength;
+        this.hashTime = hashTime;
+    }
+
+    /**
+     * The configured strength, used as is; nothing is hashed at startup.
+     */
+    public static BCryptWorkFactor fixed(int strength) {
+        return new BCryptWorkFactor(strength, null);
+    }
+
+    /**
+     * The highest strength between {@code minStrength} and {@code maxStrength} whose hash fits in {@code target}.
+     * When even {@code minStrength} is slower than the target it is used anyway, the floor is a security bound.
+     */
+    public static BCryptWorkFactor calibrate(Duration target, int minStrength, int maxStrength) {
+        return calibrate(target, minStrength, maxStrength, BCryptWorkFactor::measure);
+    }
+
+    static BCryptWorkFactor calibrate(Duration target, int minStrength, int maxStrength,
+                                      IntFunction<Duration> hashTime) {
+        if (minStrength > maxStrength) {
+            throw new IllegalArgumentException("BCrypt min strength " + minStrength
+                    + " is above max strength " + maxStrength);
+        }
+        int strength = minStrength;
+        Duration time = hashTime.apply(strength);
+        while (strength < maxStrength) {
+            // Every extra round doubles the work, skip timing a cost that cannot fit
+            if (time.multipliedBy(2).compareTo(target) > 0) {
+                break;
+            }
+            Duration next = hashTime.apply(strength + 1);
+            if (next.compareTo(target) > 0) {
+                break;
+            }
+            strength++;
+            time = next;
+        }
+        return new BCryptWorkFactor(strength, time);
+    }
+
+    /**
+     * Median time of a few hashes at the given strength, after a cheap hash to load and warm up the BCrypt code.
+     */
+    static Duration measure(int strength) {
+        BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(MIN_STRENGTH));
+        long[] nanos = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            String salt = BCrypt.gensalt(strength);
+            long start = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, salt);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return Duration.ofNanos(nanos[SAMPLES / 2]);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * {@code null} for a {@link #fixed} strength, which is never timed.
+     */
+    public Duration getHashTime() {
+        return hashTime;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.password.bcrypt.strength", this, BCryptWorkFactor::getStrength)
+                .description("BCrypt cost used to hash passwords")
+                .register(registry);
+        if (hashTime == null) {
+            return;
+        }
+        TimeGauge.builder("auth.password.bcrypt.hash.time", this, TimeUnit.NANOSECONDS,
+                        workFactor -> workFactor.getHashTime().toNanos())
+                .description("Time of one BCrypt hash at the configured cost, measured at startup")
+                .register(registry);
+    }
+}
@@ -0,0 +1,122 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import com.pragma.usuarios.domain.exception.PasswordHashingBusyException;
+import com.pragma.usuarios.domain.spi.IPasswordEncoderPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password hashing on a fixed pool with a bounded queue instead of the request threads, so a login or
+ * registration spike cannot take every servlet thread. When the queue is full the call fails at once with
+ * {@link PasswordHashingBusyException} rather than waiting.
+ */
+public class BoundedPasswordEncoderAdapter implements IPasswordEncoderPort {
+
+    private static final String METRIC_PREFIX = "auth.password.hash";
+
+    private final IPasswordEncoderPort delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration retryAfter;
+    private final Timer waitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoderAdapter(IPasswordEncoderPort delegate, int threads, int queueCapacity,
+                                         Duration retryAfter, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.retryAfter = retryAfter;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory(), new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder(METRIC_PREFIX + ".queue", executor, pool -> pool.getQueue().size())
+                .description("Password hashes waiting for a hashing thread")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing threads busy with a password hash")
+                .register(registry);
+        this.waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                .description("Time a password hash waited in the queue")
+                .register(registry);
+        this.encodeTimer = Timer.builder(METRIC_PREFIX + ".duration")
+                .description("Time spent hashing a password")
+                .tag("operation", "encode")
+                .register(registry);
+        this.matchesTimer = Timer.builder(METRIC_PREFIX + ".duration")
+                .description("Time spent hashing a password")
+                .tag("operation", "matches")
+                .register(registry);
+        this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Password hashes refused because the queue was full")
+                .register(registry);
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return run(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // Only reads the parameters of the stored hash, cheap enough for the calling thread
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Timer hashTimer, Callable<T> hash) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.recordCallable(hash);
+            });
+        } catch (RejectedExecutionException _) {
+            rejected.increment();
+            throw new PasswordHashingBusyException(retryAfter);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a password hash", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
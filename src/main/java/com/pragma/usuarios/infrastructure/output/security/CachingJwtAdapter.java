@@ -0,0 +1,156 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.pragma.usuarios.domain.model.IssuedToken;
+import com.pragma.usuarios.domain.model.TokenClaims;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.spi.IJwtPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps the claims of already verified tokens so repeated requests with the same bearer token
+ * skip signature verification. Entries are keyed by the SHA-256 digest of the token, expire at the
+ * token's {@code exp} and are evicted once the cache reaches its maximum size.
+ * Only successfully verified tokens are cached.
+ */
+public class CachingJwtAdapter implements IJwtPort, MeterBinder {
+
+    private static final String CACHE_NAME = "jwt.verified-tokens";
+
+    private final IJwtPort delegate;
+    private final Clock clock;
+    private final Cache<String, TokenClaims> verifiedTokens;
+
+    public CachingJwtAdapter(IJwtPort delegate, long maximumSize) {
+        this(delegate, maximumSize, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    CachingJwtAdapter(IJwtPort delegate, long maximumSize, Clock clock, Ticker ticker) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpireAtTokenExpiration())
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public IssuedToken generateToken(User user, String audience) {
+        IssuedToken issuedToken = delegate.generateToken(user, audience);
+        // The token was signed here, its first request does not need to be verified again
+        verifiedTokens.put(digest(issuedToken.getToken()), issuedToken.getClaims());
+        return issuedToken;
+    }
+
+    @Override
+    public Optional<TokenClaims> parseToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String key = digest(token);
+        TokenClaims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<TokenClaims> claims = delegate.parseToken(token);
+        claims.ifPresent(value -> verifiedTokens.put(key, value));
+        return claims;
+    }
+
+    @Override
+    public String extractEmail(String token) {
+        return parseToken(token).map(TokenClaims::getEmail).orElse(null);
+    }
+
+    @Override
+    public String extractRole(String token) {
+        return parseToken(token).map(TokenClaims::getRole).orElse(null);
+    }
+
+    @Override
+    public Long extractUserId(String token) {
+        return parseToken(token).map(TokenClaims::getUserId).orElse(null);
+    }
+
+    @Override
+    public boolean isTokenValid(String token) {
+        return parseToken(token).isPresent();
+    }
+
+    @Override
+    public List<Map<String, Object>> publicJwks() {
+        return delegate.publicJwks();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, CACHE_NAME);
+    }
+
+    public CacheStats stats() {
+        return verifiedTokens.stats();
+    }
+
+    public long estimatedSize() {
+        return verifiedTokens.estimatedSize();
+    }
+
+    /**
+     * Forgets every verified token, used when the signing keys change so tokens of a removed key are re-verified.
+     */
+    public void invalidateAll() {
+        verifiedTokens.invalidateAll();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private final class ExpireAtTokenExpiration implements Expiry<String, TokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenClaims claims, long currentTime) {
+            if (claims.getExpiresAt() == null) {
+                return 0L;
+            }
+            long remaining = Duration.between(clock.instant(), claims.getExpiresAt()).toNanos();
+            return Math.max(remaining, 0L);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,689 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import com.pragma.usuarios.domain.model.IssuedToken;
+import com.pragma.usuarios.domain.model.TokenClaims;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.spi.IJwtPort;
+import com.pragma.usuarios.infrastructure.constant.SecurityConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * HMAC JWS codec specialised for the fixed claim set issued by this service
+ * ({@code userId}, {@code role}, {@code tokenVersion}, {@code firstName}, {@code lastName}, {@code jti},
+ * {@code sub}, {@code aud}, {@code iat}, {@code exp}, trimmed by the {@link JwtClaimProfile} of the audience).
+ * The header segment is computed once, each thread reuses its own initialised {@link Mac} and only the claims
+ * the service reads are decoded from the payload bytes, without building a claims map.
+ * <p>
+ * Tokens are interchangeable with {@link JwtAdapter}: the HMAC algorithm is chosen from the key length exactly
+ * like jjwt does, so either adapter verifies tokens signed by the other with the same secret.
+ * Only a single HMAC key without a {@code kid} is supported; asymmetric signing and key rotation require
+ * the jjwt codec.
+ */
+@Slf4j
+@Component
+@Qualifier(SecurityConstants.JWT_CODEC_QUALIFIER)
+@ConditionalOnProperty(prefix = "jwt", name = "codec", havingValue = "compact")
+public class CompactJwtAdapter implements IJwtPort {
+
+    private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec signingKey;
+    private final String headerSegment;
+    private final ThreadLocal<Mac> macs;
+    private final long expirationMs;
+    private final Clock clock;
+    private final JwtClaimSettings claimSettings;
+
+    public CompactJwtAdapter(String secret, long expirationMs) {
+        this(secret, expirationMs, JwtClaimSettings.DEFAULT);
+    }
+
+    public CompactJwtAdapter(String secret, long expirationMs, JwtClaimSettings claimSettings) {
+        this(secret.getBytes(StandardCharsets.UTF_8), expirationMs, Clock.systemUTC(), claimSettings);
+    }
+
+    @Autowired
+    public CompactJwtAdapter(JwtKeyRing keyRing, @Value("${jwt.expiration-ms}") long expirationMs,
+                             JwtClaimSettings claimSettings) {
+        this(hmacSecret(keyRing), expirationMs, Clock.systemUTC(), claimSettings);
+        keyRing.onRotation(() -> log.error("JWT keys were rotated but jwt.codec=compact keeps signing and "
+                + "verifying with the key it started with, switch to jwt.codec=jjwt to rotate keys"));
+    }
+
+    CompactJwtAdapter(String secret, long expirationMs, Clock clock) {
+        this(secret.getBytes(StandardCharsets.UTF_8), expirationMs, clock, JwtClaimSettings.DEFAULT);
+    }
+
+    private CompactJwtAdapter(byte[] keyBytes, long expirationMs, Clock clock, JwtClaimSettings claimSettings) {
+        HmacAlgorithm algorithm = HmacAlgorithm.forKeyLength(keyBytes.length);
+
+        this.signingKey = new SecretKeySpec(keyBytes, algorithm.jcaName);
+        this.headerSegment = BASE64_URL_ENCODER.encodeToString(
+                ("{\"alg\":\"" + algorithm.name() + "\"}").getBytes(StandardCharsets.US_ASCII));
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        this.expirationMs = expirationMs;
+        this.clock = clock;
+        this.claimSettings = claimSettings;
+    }
+
+    @Override
+    public IssuedToken generateToken(User user, String audience) {
+        Instant issuedAt = clock.instant().truncatedTo(ChronoUnit.SECONDS);
+        Instant expiresAt = issuedAt.plusMillis(expirationMs).truncatedTo(ChronoUnit.SECONDS);
+        String role = user.getRole().getName();
+        String tokenId = UUID.randomUUID().toString();
+        int tokenVersion = user.getTokenVersion() == null ? 0 : user.getTokenVersion();
+
+        JwtClaimProfile profile = claimSettings.profileFor(audience);
+        JwtClaimNames names = claimSettings.names();
+        boolean withNames = profile.includesNames();
+
+        String payload = new ClaimsWriter()
+                .number(names.userId(), user.getId())
+                .number(names.tokenVersion(), profile.includesTokenVersion(tokenVersion) ? (long) tokenVersion : null)
+                .string(names.role(), role)
+                .string(names.firstName(), withNames ? user.getFirstName() : null)
+                .string(names.lastName(), withNames ? user.getLastName() : null)
+                .string("jti", tokenId)
+                .string("sub", user.getEmail())
+                .string("aud", claimSettings.isKnownAudience(audience) ? audience : null)
+                .number("iat", profile.includesIssuedAt() ? issuedAt.getEpochSecond() : null)
+                .number("exp", expiresAt.getEpochSecond())
+                .toJson();
+
+        String signingInput = headerSegment + '.'
+                + BASE64_URL_ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        byte[] signature = macs.get().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+
+        return IssuedToken.builder()
+                .token(signingInput + '.' + BASE64_URL_ENCODER.encodeToString(signature))
+                .claims(TokenClaims.builder()
+                        .tokenId(tokenId)
+                        .userId(user.getId())
+                        .email(user.getEmail())
+                        .role(role)
+                        .issuedAt(profile.includesIssuedAt() ? issuedAt : null)
+                        .expiresAt(expiresAt)
+                        .tokenVersion(tokenVersion)
+                        .build())
+                .build();
+    }
+
+    @Override
+    public Optional<TokenClaims> parseToken(String token) {
+        if (token == null || !token.startsWith(headerSegment)) {
+            return Optional.empty();
+        }
+
+        int payloadStart = headerSegment.length() + 1;
+        int signatureStart = token.indexOf('.', payloadStart) + 1;
+        if (token.length() <= payloadStart || token.charAt(payloadStart - 1) != '.'
+                || signatureStart <= payloadStart || token.indexOf('.', signatureStart) >= 0) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] ascii = token.getBytes(StandardCharsets.US_ASCII);
+
+            Mac mac = macs.get();
+            mac.update(ascii, 0, signatureStart - 1);
+            byte[] expected = mac.doFinal();
+            ByteBuffer actual = BASE64_URL_DECODER.decode(
+                    ByteBuffer.wrap(ascii, signatureStart, ascii.length - signatureStart));
+            if (!signatureMatches(expected, actual)) {
+                return Optional.empty();
+            }
+
+            ByteBuffer payload = BASE64_URL_DECODER.decode(
+                    ByteBuffer.wrap(ascii, payloadStart, signatureStart - 1 - payloadStart));
+            return Optional.ofNullable(new ClaimsReader(payload.array(), payload.remaining()).read(clock.millis()));
+        } catch (IllegalArgumentException | ArithmeticException _) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String extractEmail(String token) {
+        return parseToken(token).map(TokenClaims::getEmail).orElse(null);
+    }
+
+    @Override
+    public String extractRole(String token) {
+        return parseToken(token).map(TokenClaims::getRole).orElse(null);
+    }
+
+    @Override
+    public Long extractUserId(String token) {
+        return parseToken(token).map(TokenClaims::getUserId).orElse(null);
+    }
+
+    @Override
+    public boolean isTokenValid(String token) {
+        return parseToken(token).isPresent();
+    }
+
+    @Override
+    public List<Map<String, Object>> publicJwks() {
+        return List.of();
+    }
+
+    private static byte[] hmacSecret(JwtKeyRing keyRing) {
+        JwtKey signingKey = keyRing.activeKey();
+        if (keyRing.keys().size() > 1
+                || signingKey.getAlgorithm() != JwtSignatureAlgorithm.HMAC || signingKey.getKeyId() != null) {
+            throw new IllegalStateException("jwt.codec=compact only supports a single HMAC key without a key id");
+        }
+        return ((SecretKey) signingKey.getSigningKey()).getEncoded();
+    }
+
+    private static boolean signatureMatches(byte[] expected, ByteBuffer actual) {
+        if (actual.remaining() != expected.length) {
+            return false;
+        }
+        byte[] actualBytes = actual.array();
+        int difference = 0;
+        for (int i = 0; i < expected.length; i++) {
+            difference |= expected[i] ^ actualBytes[i];
+        }
+        return difference == 0;
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(signingKey.getAlgorithm());
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Unable to initialise " + signingKey.getAlgorithm(), ex);
+        }
+    }
+
+    private enum HmacAlgorithm {
+        HS256("HmacSHA256", 256),
+        HS384("HmacSHA384", 384),
+        HS512("HmacSHA512", 512);
+
+        private final String jcaName;
+        private final int minimumBits;
+
+        HmacAlgorithm(String jcaName, int minimumBits) {
+            this.jcaName = jcaName;
+            this.minimumBits = minimumBits;
+        }
+
+        // Same selection as io.jsonwebtoken.security.Keys#hmacShaKeyFor
+        static HmacAlgorithm forKeyLength(int keyBytes) {
+            int bits = keyBytes * 8;
+            if (bits >= HS512.minimumBits) {
+                return HS512;
+            }
+            if (bits >= HS384.minimumBits) {
+                return HS384;
+            }
+            if (bits >= HS256.minimumBits) {
+                return HS256;
+            }
+            throw new IllegalArgumentException("The JWT secret is " + bits
+                    + " bits long, HMAC-SHA signing requires at least 256 bits");
+        }
+    }
+
+    /**
+     * Writes a flat JSON object, omitting {@code null} members the same way jjwt drops null claims.
+     */
+    private static final class ClaimsWriter {
+
+        private final StringBuilder json = new StringBuilder(192).append('{');
+
+        ClaimsWriter number(String name, Long value) {
+            if (value != null) {
+                name(name).append(value.longValue());
+            }
+            return this;
+        }
+
+        ClaimsWriter string(String name, String value) {
+            if (value == null) {
+                return this;
+            }
+            StringBuilder out = name(name).append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> out.append("\\\"");
+                    case '\\' -> out.append("\\\\");
+                    case '\n' -> out.append("\\n");
+                    case '\r' -> out.append("\\r");
+                    case '\t' -> out.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            out.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            out.append(c);
+                        }
+                    }
+                }
+            }
+            out.append('"');
+            return this;
+        }
+
+        String toJson() {
+            return json.append('}').toString();
+        }
+
+        private StringBuilder name(String name) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            return json.append('"').append(name).append("\":");
+        }
+    }
+
+    /**
+     * Reads the claims used by the service straight from the decoded payload bytes and skips every other member.
+     * Any syntax error is reported as {@link IllegalArgumentException}; a structurally valid payload that is
+     * expired, not yet valid or carries a claim of the wrong type yields {@code null}. Claims are resolved like
+     * {@link JwtAdapter} does: a short name wins over its long name and a repeated name keeps its last value.
+     */
+    private static final class ClaimsReader {
+
+        private static final byte[] USER_ID = ascii(JwtClaimNames.LONG.userId());
+        private static final byte[] USER_ID_SHORT = ascii(JwtClaimNames.SHORT.userId());
+        private static final byte[] ROLE = ascii(JwtClaimNames.LONG.role());
+        private static final byte[] ROLE_SHORT = ascii(JwtClaimNames.SHORT.role());
+        private static final byte[] TOKEN_ID = "jti".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] TOKEN_VERSION = ascii(JwtClaimNames.LONG.tokenVersion());
+        private static final byte[] TOKEN_VERSION_SHORT = ascii(JwtClaimNames.SHORT.tokenVersion());
+        private static final byte[] SUBJECT = "sub".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] ISSUED_AT = "iat".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] EXPIRATION = "exp".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] NOT_BEFORE = "nbf".getBytes(StandardCharsets.US_ASCII);
+        private static final int MAX_DEPTH = 32;
+
+        private final byte[] buffer;
+        private final int end;
+        private int position;
+
+        private boolean typeMismatch;
+        private boolean integral;
+
+        ClaimsReader(byte[] buffer, int length) {
+            this.buffer = buffer;
+            this.end = length;
+        }
+
+        TokenClaims read(long nowMillis) {
+            Long userId = null;
+            Long userIdShort = null;
+            String role = null;
+            String roleShort = null;
+            String tokenId = null;
+            Long tokenVersion = null;
+            Long tokenVersionShort = null;
+            String subject = null;
+            Long issuedAt = null;
+            Long expiration = null;
+            Long notBefore = null;
+
+            skipWhitespace();
+            expect('{');
+            if (peekAfterWhitespace() == '}') {
+                position++;
+            } else {
+                do {
+                    skipWhitespace();
+                    expect('"');
+                    int nameStart = position;
+                    boolean escaped = skipStringBody();
+                    int nameEnd = position - 1;
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+
+                    byte[] name = escaped ? unescapedName(nameStart) : null;
+                    if (isName(name, nameStart, nameEnd, USER_ID)) {
+                        userId = readUserId();
+                    } else if (isName(name, nameStart, nameEnd, USER_ID_SHORT)) {
+                        userIdShort = readUserId();
+                    } else if (isName(name, nameStart, nameEnd, ROLE)) {
+                        role = readString();
+                    } else if (isName(name, nameStart, nameEnd, ROLE_SHORT)) {
+                        roleShort = readString();
+                    } else if (isName(name, nameStart, nameEnd, TOKEN_ID)) {
+                        tokenId = readString();
+                    } else if (isName(name, nameStart, nameEnd, TOKEN_VERSION)) {
+                        tokenVersion = readTokenVersion();
+                    } else if (isName(name, nameStart, nameEnd, TOKEN_VERSION_SHORT)) {
+                        tokenVersionShort = readTokenVersion();
+                    } else if (isName(name, nameStart, nameEnd, SUBJECT)) {
+                        subject = readString();
+                    } else if (isName(name, nameStart, nameEnd, ISSUED_AT)) {
+                        issuedAt = readLong();
+                    } else if (isName(name, nameStart, nameEnd, EXPIRATION)) {
+                        expiration = readLong();
+                    } else if (isName(name, nameStart, nameEnd, NOT_BEFORE)) {
+                        notBefore = readLong();
+                    } else {
+                        skipValue(0);
+                    }
+                } while (nextMember());
+            }
+            if (peekAfterWhitespace() != -1) {
+                throw new IllegalArgumentException("Unexpected content after JWT payload");
+            }
+
+            if (typeMismatch || expiration == null
+                    || Math.multiplyExact(expiration, 1000L) < nowMillis
+                    || (notBefore != null && Math.multiplyExact(notBefore, 1000L) > nowMillis)) {
+                return null;
+            }
+
+            if (userIdShort != null) {
+                userId = userIdShort;
+            }
+            if (roleShort != null) {
+                role = roleShort;
+            }
+            if (tokenVersionShort != null) {
+                tokenVersion = tokenVersionShort;
+            }
+            return TokenClaims.builder()
+                    .tokenId(tokenId)
+                    .userId(userId)
+                    .email(subject)
+                    .role(role)
+                    .issuedAt(issuedAt == null ? null : Instant.ofEpochSecond(issuedAt))
+                    .expiresAt(Instant.ofEpochSecond(expiration))
+                    .tokenVersion(tokenVersion == null ? null : tokenVersion.intValue())
+                    .build();
+        }
+
+        private static byte[] ascii(String name) {
+            return name.getBytes(StandardCharsets.US_ASCII);
+        }
+
+        private boolean nextMember() {
+            int c = peekAfterWhitespace();
+            position++;
+            if (c == ',') {
+                return true;
+            }
+            if (c == '}') {
+                return false;
+            }
+            throw new IllegalArgumentException("Expected ',' or '}' in JWT payload");
+        }
+
+        private boolean isName(byte[] unescaped, int start, int nameEnd, byte[] expected) {
+            if (unescaped != null) {
+                return Arrays.equals(unescaped, expected);
+            }
+            return Arrays.equals(buffer, start, nameEnd, expected, 0, expected.length);
+        }
+
+        private byte[] unescapedName(int start) {
+            int resume = position;
+            position = start;
+            String name = readStringBody();
+            position = resume;
+            return name.getBytes(StandardCharsets.UTF_8);
+        }
+
+        private Long readUserId() {
+            Long userId = readLong();
+            return userId != null && integral ? userId : null;
+        }
+
+        private Long readTokenVersion() {
+            Long tokenVersion = readLong();
+            if (tokenVersion != null && (!integral || tokenVersion != tokenVersion.intValue())) {
+                typeMismatch = true;
+                return null;
+            }
+            return tokenVersion;
+        }
+
+        private String readString() {
+            if (peek() == 'n') {
+                expectLiteral("null");
+                return null;
+            }
+            if (peek() != '"') {
+                typeMismatch = true;
+                skipValue(0);
+                return null;
+            }
+            position++;
+            return readStringBody();
+        }
+
+        private Long readLong() {
+            int c = peek();
+            if (c == 'n') {
+                expectLiteral("null");
+                return null;
+            }
+            if (c != '-' && (c < '0' || c > '9')) {
+                typeMismatch = true;
+                skipValue(0);
+                return null;
+            }
+
+            int start = position;
+            if (c == '-') {
+                position++;
+            }
+            long value = 0;
+            int digits = 0;
+            while (position < end && buffer[position] >= '0' && buffer[position] <= '9') {
+                value = Math.addExact(Math.multiplyExact(value, 10), buffer[position] - '0');
+                position++;
+                digits++;
+            }
+            if (digits == 0) {
+                throw new IllegalArgumentException("Invalid number in JWT payload");
+            }
+
+            integral = true;
+            if (position < end && (buffer[position] == '.' || buffer[position] == 'e' || buffer[position] == 'E')) {
+                while (position < end && "0123456789+-.eE".indexOf(buffer[position]) >= 0) {
+                    position++;
+                }
+                integral = false;
+                // Fractional numeric dates are truncated to whole seconds
+                return new BigDecimal(new String(buffer, start, position - start, StandardCharsets.US_ASCII))
+                        .longValue();
+            }
+            return c == '-' ? -value : value;
+        }
+
+        private String readStringBody() {
+            int start = position;
+            while (true) {
+                byte b = byteAt(position);
+                if (b == '"') {
+                    position++;
+                    return new String(buffer, start, position - 1 - start, StandardCharsets.UTF_8);
+                }
+                if (b == '\\') {
+                    break;
+                }
+                position++;
+            }
+
+            StringBuilder out = new StringBuilder(position - start + 16);
+            out.append(new String(buffer, start, position - start, StandardCharsets.UTF_8));
+            while (true) {
+                byte b = byteAt(position);
+                if (b == '"') {
+                    position++;
+                    return out.toString();
+                }
+                if (b == '\\') {
+                    position++;
+                    out.append(unescape());
+                    continue;
+                }
+                int segmentStart = position;
+                while (byteAt(position) != '"' && buffer[position] != '\\') {
+                    position++;
+                }
+                out.append(new String(buffer, segmentStart, position - segmentStart, StandardCharsets.UTF_8));
+            }
+        }
+
+        private char unescape() {
+            byte b = byteAt(position++);
+            return switch (b) {
+                case '"' -> '"';
+                case '\\' -> '\\';
+                case '/' -> '/';
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case 't' -> '\t';
+                case 'u' -> {
+                    int code = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(byteAt(position++), 16);
+                        if (digit < 0) {
+                            throw new IllegalArgumentException("Invalid unicode escape in JWT payload");
+                        }
+                        code = (code << 4) | digit;
+                    }
+                    yield (char) code;
+                }
+                default -> throw new IllegalArgumentException("Invalid escape in JWT payload");
+            };
+        }
+
+        private boolean skipStringBody() {
+            boolean escaped = false;
+            while (true) {
+                byte b = byteAt(position++);
+                if (b == '"') {
+                    return escaped;
+                }
+                if (b == '\\') {
+                    escaped = true;
+                    position++;
+                }
+            }
+        }
+
+        private void skipValue(int depth) {
+            if (depth > MAX_DEPTH) {
+                throw new IllegalArgumentException("JWT payload is nested too deeply");
+            }
+            int c = peek();
+            switch (c) {
+                case '"' -> {
+                    position++;
+                    skipStringBody();
+                }
+                case '{', '[' -> skipContainer(depth, c == '{' ? '}' : ']');
+                case 't' -> expectLiteral("true");
+                case 'f' -> expectLiteral("false");
+                case 'n' -> expectLiteral("null");
+                default -> {
+                    if (c != '-' && (c < '0' || c > '9')) {
+                        throw new IllegalArgumentException("Invalid JWT payload");
+                    }
+                    readLong();
+                }
+            }
+        }
+
+        private void skipContainer(int depth, char close) {
+            position++;
+            if (peekAfterWhitespace() == close) {
+                position++;
+                return;
+            }
+            while (true) {
+                skipWhitespace();
+                if (close == '}') {
+                    expect('"');
+                    skipStringBody();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                }
+                skipValue(depth + 1);
+                int next = peekAfterWhitespace();
+                position++;
+                if (next == close) {
+                    return;
+                }
+                if (next != ',') {
+                    throw new IllegalArgumentException("Malformed JSON in JWT payload");
+                }
+            }
+        }
+
+        private void expectLiteral(String literal) {
+            for (int i = 0; i < literal.length(); i++) {
+                if (byteAt(position++) != literal.charAt(i)) {
+                    throw new IllegalArgumentException("Invalid literal in JWT payload");
+                }
+            }
+        }
+
+        private void expect(char expected) {
+            if (byteAt(position++) != expected) {
+                throw new IllegalArgumentException("Expected '" + expected + "' in JWT payload");
+            }
+        }
+
+        private int peekAfterWhitespace() {
+            skipWhitespace();
+            return position < end ? buffer[position] : -1;
+        }
+
+        private int peek() {
+            return byteAt(position);
+        }
+
+        private void skipWhitespace() {
+            while (position < end) {
+                byte b = buffer[position];
+                if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                    return;
+                }
+                position++;
+            }
+        }
+
+        private byte byteAt(int index) {
+            if (index >= end) {
+                throw new IllegalArgumentException("Unexpected end of JWT payload");
+            }
+            return buffer[index];
+        }
+    }
+}
@@ -1,47 +1,137 @@
 package com.pragma.usuarios.infrastructure.output.security;
 
+import com.pragma.usuarios.domain.model.IssuedToken;
+import com.pragma.usuarios.domain.model.TokenClaims;
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.domain.spi.IJwtPort;
+import com.pragma.usuarios.infrastructure.constant.SecurityConstants;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.ProtectedHeader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
 
+/**
+ * jjwt based codec. Tokens are signed with the active key of the {@link JwtKeyRing} and verified with
+ * whichever key of the ring their {@code kid} header names, so rotating keys does not invalidate tokens
+ * that are already out.
+ */
 @Component
+@Qualifier(SecurityConstants.JWT_CODEC_QUALIFIER)
+@ConditionalOnProperty(prefix = "jwt", name = "codec", havingValue = "jjwt", matchIfMissing = true)
 public class JwtAdapter implements IJwtPort {
 
-    private final SecretKey secretKey;
+    private final JwtKeyRing keyRing;
+    private final JwtParser jwtParser;
     private final long expirationMs;
+    private final JwtClaimSettings claimSettings;
 
-    public JwtAdapter(@Value("${jwt.secret}") String secret,
-                      @Value("${jwt.expiration-ms}") long expirationMs) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    public JwtAdapter(String secret, long expirationMs) {
+        this(JwtKey.hmac(secret), expirationMs);
+    }
+
+    public JwtAdapter(JwtKey signingKey, long expirationMs) {
+        this(JwtKeyRing.of(signingKey), expirationMs);
+    }
+
+    public JwtAdapter(JwtKeyRing keyRing, long expirationMs) {
+        this(keyRing, expirationMs, JwtClaimSettings.DEFAULT);
+    }
+
+    @Autowired
+    public JwtAdapter(JwtKeyRing keyRing, @Value("${jwt.expiration-ms}") long expirationMs,
+                      JwtClaimSettings claimSettings) {
+        this.keyRing = keyRing;
+        this.jwtParser = Jwts.parser().keyLocator(this::verificationKey).build();
         this.expirationMs = expirationMs;
+        this.claimSettings = claimSettings;
     }
 
     @Override
-    public String generateToken(User user) {
+    public IssuedToken generateToken(User user, String audience) {
+        // JWT timestamps have second precision, keep the in-memory claims identical to the signed ones
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant expiresAt = issuedAt.plusMillis(expirationMs).truncatedTo(ChronoUnit.SECONDS);
+
+        String tokenId = UUID.randomUUID().toString();
+        int tokenVersion = user.getTokenVersion() == null ? 0 : user.getTokenVersion();
+
+        JwtClaimProfile profile = claimSettings.profileFor(audience);
+        JwtClaimNames names = claimSettings.names();
         Map<String, Object> claims = new HashMap<>();
-        claims.put("userId", user.getId());
-        claims.put("role", user.getRole().getName());
-        claims.put("firstName", user.getFirstName());
-        claims.put("lastName", user.getLastName());
+        claims.put(names.userId(), user.getId());
+        if (profile.includesTokenVersion(tokenVersion)) {
+            claims.put(names.tokenVersion(), tokenVersion);
+        }
+        claims.put(names.role(), user.getRole().getName());
+        if (profile.includesNames()) {
+            claims.put(names.firstName(), user.getFirstName());
+            claims.put(names.lastName(), user.getLastName());
+        }
 
-        return Jwts.builder()
+        JwtKey signingKey = keyRing.activeKey();
+        JwtBuilder builder = Jwts.builder();
+        if (signingKey.getKeyId() != null) {
+            builder = builder.header().keyId(signingKey.getKeyId()).and();
+        }
+        builder = builder
                 .claims(claims)
+                .id(tokenId)
                 .subject(user.getEmail())
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + expirationMs))
-                .signWith(secretKey)
-                .compact();
+                .expiration(Date.from(expiresAt));
+        if (profile.includesIssuedAt()) {
+            builder = builder.issuedAt(Date.from(issuedAt));
+        }
+        if (claimSettings.isKnownAudience(audience)) {
+            builder = builder.audience().single(audience);
+        }
+        String token = sign(signingKey, builder).compact();
+
+        return IssuedToken.builder()
+                .token(token)
+                .claims(TokenClaims.builder()
+                        .tokenId(tokenId)
+                        .userId(user.getId())
+                        .email(user.getEmail())
+                        .role(user.getRole().getName())
+                        .issuedAt(profile.includesIssuedAt() ? issuedAt : null)
+                        .expiresAt(expiresAt)
+                        .tokenVersion(tokenVersion)
+                        .build())
+                .build();
+    }
+
+    @Override
+    public Optional<TokenClaims> parseToken(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            if (claims.getExpiration() == null || claims.getExpiration().before(new Date())) {
+                return Optional.empty();
+            }
+            return Optional.of(toTokenClaims(claims));
+        } catch (JwtException | IllegalArgumentException _) {
+            return Optional.empty();
+        }
     }
 
     @Override
@@ -51,12 +141,12 @@ public class JwtAdapter implements IJwtPort {
 
     @Override
     public String extractRole(String token) {
-        return extractAllClaims(token).get("role", String.class);
+        return claim(extractAllClaims(token), JwtClaimNames::role, String.class);
     }
 
     @Override
     public Long extractUserId(String token) {
-        return extractAllClaims(token).get("userId", Long.class);
+        return claim(extractAllClaims(token), JwtClaimNames::userId, Long.class);
     }
 
     @Override
@@ -69,11 +159,51 @@ public class JwtAdapter implements IJwtPort {
         }
     }
 
+    @Override
+    public List<Map<String, Object>> publicJwks() {
+        return keyRing.keys().stream()
+                .flatMap(key -> key.toPublicJwk().stream())
+                .toList();
+    }
+
+    private static JwtBuilder sign(JwtKey signingKey, JwtBuilder builder) {
+        return switch (signingKey.getAlgorithm()) {
+            // The HMAC strength follows the secret length, as it always has
+            case HMAC -> builder.signWith((SecretKey) signingKey.getSigningKey());
+            case EDDSA -> builder.signWith((PrivateKey) signingKey.getSigningKey(), Jwts.SIG.EdDSA);
+            case ES256 -> builder.signWith((PrivateKey) signingKey.getSigningKey(), Jwts.SIG.ES256);
+        };
+    }
+
+    // Unknown key ids resolve to null, which jjwt rejects as an unverifiable token
+    private Key verificationKey(Header header) {
+        if (!(header instanceof ProtectedHeader protectedHeader)) {
+            return null;
+        }
+        return keyRing.find(protectedHeader.getKeyId())
+                .map(JwtKey::getVerificationKey)
+                .orElse(null);
+    }
+
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    private TokenClaims toTokenClaims(Claims claims) {
+        return TokenClaims.builder()
+                .tokenId(claims.getId())
+                .userId(claim(claims, JwtClaimNames::userId, Long.class))
+                .email(claims.getSubject())
+                .role(claim(claims, JwtClaimNames::role, String.class))
+                .issuedAt(claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant())
+                .expiresAt(claims.getExpiration().toInstant())
+                .tokenVersion(claim(claims, JwtClaimNames::tokenVersion, Integer.class))
+                .build();
+    }
+
+    // Tokens may use either naming, see JwtClaimNames
+    private static <T> T claim(Claims claims, Function<JwtClaimNames, String> name, Class<T> type) {
+        T value = claims.get(name.apply(JwtClaimNames.SHORT), type);
+        return value != null ? value : claims.get(name.apply(JwtClaimNames.LONG), type);
     }
 }
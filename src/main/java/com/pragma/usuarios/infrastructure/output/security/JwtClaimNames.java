@@ -0,0 +1,12 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+/**
+ * Names of the private claims. Registered claims ({@code sub}, {@code jti}, {@code iat}, {@code exp},
+ * {@code aud}) are already short and keep their names. Both codecs read either naming, so switching
+ * {@code jwt.claims.short-names} does not invalidate tokens already issued.
+ */
+public record JwtClaimNames(String userId, String role, String tokenVersion, String firstName, String lastName) {
+
+    public static final JwtClaimNames LONG = new JwtClaimNames("userId", "role", "tokenVersion", "firstName", "lastName");
+    public static final JwtClaimNames SHORT = new JwtClaimNames("uid", "rol", "tv", "fn", "ln");
+}
@@ -0,0 +1,41 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+/**
+ * Which claims an access token embeds. Every profile carries what verification needs
+ * ({@code sub}, user id, role, {@code jti}, {@code exp}); the rest only adds bytes to every request.
+ */
+public enum JwtClaimProfile {
+
+    /**
+     * Only the claims read by {@code JwtAuthenticationFilter} and the revocation check. The token version is
+     * left out while it is still 0, which is what its absence means.
+     */
+    MINIMAL(false, false, false),
+
+    /**
+     * Every claim, including the user's names and {@code iat}, as tokens were issued before profiles existed.
+     */
+    FULL(true, true, true);
+
+    private final boolean names;
+    private final boolean issuedAt;
+    private final boolean initialTokenVersion;
+
+    JwtClaimProfile(boolean names, boolean issuedAt, boolean initialTokenVersion) {
+        this.names = names;
+        this.issuedAt = issuedAt;
+        this.initialTokenVersion = initialTokenVersion;
+    }
+
+    public boolean includesNames() {
+        return names;
+    }
+
+    public boolean includesIssuedAt() {
+        return issuedAt;
+    }
+
+    public boolean includesTokenVersion(int tokenVersion) {
+        return initialTokenVersion || tokenVersion != 0;
+    }
+}
@@ -0,0 +1,37 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import java.util.Map;
+
+/**
+ * Claim profile per audience and the naming of the private claims, shared by both codecs.
+ */
+public final class JwtClaimSettings {
+
+    public static final JwtClaimSettings DEFAULT = new JwtClaimSettings(JwtClaimProfile.FULL, Map.of(), false);
+
+    private final JwtClaimProfile defaultProfile;
+    private final Map<String, JwtClaimProfile> audienceProfiles;
+    private final JwtClaimNames names;
+
+    public JwtClaimSettings(JwtClaimProfile defaultProfile, Map<String, JwtClaimProfile> audienceProfiles,
+                            boolean shortNames) {
+        this.defaultProfile = defaultProfile;
+        this.audienceProfiles = Map.copyOf(audienceProfiles);
+        this.names = shortNames ? JwtClaimNames.SHORT : JwtClaimNames.LONG;
+    }
+
+    /**
+     * Only configured audiences are written to the {@code aud} claim, anything else gets the default profile.
+     */
+    public boolean isKnownAudience(String audience) {
+        return audience != null && audienceProfiles.containsKey(audience);
+    }
+
+    public JwtClaimProfile profileFor(String audience) {
+        return isKnownAudience(audience) ? audienceProfiles.get(audience) : defaultProfile;
+    }
+
+    public JwtClaimNames names() {
+        return names;
+    }
+}
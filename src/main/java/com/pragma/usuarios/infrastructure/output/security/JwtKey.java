@@ -0,0 +1,157 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A token signing key with its {@code kid}. HMAC keys sign and verify with the same secret;
+ * asymmetric keys sign with the private key and publish the public key as a JWK.
+ */
+public final class JwtKey {
+
+    private final String keyId;
+    private final JwtSignatureAlgorithm algorithm;
+    private final Key signingKey;
+    private final Key verificationKey;
+
+    private JwtKey(String keyId, JwtSignatureAlgorithm algorithm, Key signingKey, Key verificationKey) {
+        this.keyId = keyId;
+        this.algorithm = algorithm;
+        this.signingKey = signingKey;
+        this.verificationKey = verificationKey;
+    }
+
+    public static JwtKey hmac(String secret) {
+        return hmac(null, secret);
+    }
+
+    public static JwtKey hmac(String keyId, String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("HMAC secret is empty");
+        }
+        SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return new JwtKey(blankToNull(keyId), JwtSignatureAlgorithm.HMAC, key, key);
+    }
+
+    public static JwtKey fromPem(JwtSignatureAlgorithm algorithm, String keyId, String privateKeyPem, String publicKeyPem) {
+        requireAsymmetric(algorithm);
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(algorithm.getJcaKeyAlgorithm());
+            PrivateKey privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(privateKeyPem)));
+            PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(decodePem(publicKeyPem)));
+            return asymmetric(algorithm, keyId, privateKey, publicKey);
+        } catch (GeneralSecurityException | IllegalArgumentException ex) {
+            throw new IllegalStateException("Invalid " + algorithm.getJwsName() + " key pair for JWT signing", ex);
+        }
+    }
+
+    /**
+     * A public key that only verifies tokens, e.g. a retired signing key kept until its tokens expire.
+     */
+    public static JwtKey verificationOnly(JwtSignatureAlgorithm algorithm, String keyId, String publicKeyPem) {
+        requireAsymmetric(algorithm);
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(algorithm.getJcaKeyAlgorithm());
+            PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(decodePem(publicKeyPem)));
+            return new JwtKey(keyIdOrThumbprint(keyId, publicKey), algorithm, null, publicKey);
+        } catch (GeneralSecurityException | IllegalArgumentException ex) {
+            throw new IllegalStateException("Invalid " + algorithm.getJwsName() + " public key for JWT verification", ex);
+        }
+    }
+
+    public static JwtKey generate(JwtSignatureAlgorithm algorithm, String keyId) {
+        requireAsymmetric(algorithm);
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.getJcaKeyAlgorithm());
+            if (algorithm == JwtSignatureAlgorithm.ES256) {
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+            }
+            KeyPair keyPair = generator.generateKeyPair();
+            return asymmetric(algorithm, keyId, keyPair.getPrivate(), keyPair.getPublic());
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Unable to generate " + algorithm.getJwsName() + " key pair", ex);
+        }
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public JwtSignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    public Key getVerificationKey() {
+        return verificationKey;
+    }
+
+    public boolean canSign() {
+        return signingKey != null;
+    }
+
+    /**
+     * The public half of the key as an RFC 7517 JWK, or empty for HMAC secrets which must never be published.
+     */
+    public Optional<Map<String, Object>> toPublicJwk() {
+        if (!algorithm.isAsymmetric()) {
+            return Optional.empty();
+        }
+        Map<String, ?> jwk = Jwks.builder()
+                .key((PublicKey) verificationKey)
+                .id(keyId)
+                .algorithm(algorithm.getJwsName())
+                .publicKeyUse("sig")
+                .build();
+        return Optional.of(new LinkedHashMap<>(jwk));
+    }
+
+    private static JwtKey asymmetric(JwtSignatureAlgorithm algorithm, String keyId, PrivateKey privateKey, PublicKey publicKey) {
+        return new JwtKey(keyIdOrThumbprint(keyId, publicKey), algorithm, privateKey, publicKey);
+    }
+
+    private static String keyIdOrThumbprint(String keyId, PublicKey publicKey) {
+        if (keyId != null && !keyId.isBlank()) {
+            return keyId;
+        }
+        return Jwks.builder().key(publicKey).idFromThumbprint().build().getId();
+    }
+
+    private static void requireAsymmetric(JwtSignatureAlgorithm algorithm) {
+        if (algorithm == null || !algorithm.isAsymmetric()) {
+            throw new IllegalArgumentException("Expected an asymmetric JWT signature algorithm but got " + algorithm);
+        }
+    }
+
+    private static byte[] decodePem(String pem) {
+        if (pem == null || pem.isBlank()) {
+            throw new IllegalArgumentException("PEM content is empty");
+        }
+        String base64 = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
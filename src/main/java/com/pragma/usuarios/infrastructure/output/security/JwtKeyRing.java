@@ -0,0 +1,84 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The keys the token codec works with: one active key that signs new tokens and any number of
+ * verification-only keys that keep accepting tokens signed before a rotation until they expire.
+ * Keys are selected by the {@code kid} header; tokens without one resolve to the single key configured
+ * without a key id, which is how tokens issued before key ids were introduced keep verifying.
+ * <p>
+ * The whole set is swapped atomically by {@link #rotate}, so readers never see a half-applied rotation.
+ */
+public final class JwtKeyRing {
+
+    private static final String NO_KEY_ID = "";
+
+    private final List<Runnable> rotationListeners = new CopyOnWriteArrayList<>();
+    private volatile KeySet keySet;
+
+    public JwtKeyRing(JwtKey activeKey, List<JwtKey> verificationKeys) {
+        this.keySet = KeySet.of(activeKey, verificationKeys);
+    }
+
+    public static JwtKeyRing of(JwtKey activeKey) {
+        return new JwtKeyRing(activeKey, List.of());
+    }
+
+    public JwtKey activeKey() {
+        return keySet.activeKey();
+    }
+
+    public Optional<JwtKey> find(String keyId) {
+        return Optional.ofNullable(keySet.byKeyId().get(keyId == null ? NO_KEY_ID : keyId));
+    }
+
+    /**
+     * Every key in the ring, the active one first.
+     */
+    public List<JwtKey> keys() {
+        return keySet.keys();
+    }
+
+    /**
+     * Replaces the key set. Tokens signed with a key that is no longer in the ring stop verifying,
+     * so a retired key should stay as a verification key for at least one token lifetime.
+     */
+    public void rotate(JwtKey activeKey, List<JwtKey> verificationKeys) {
+        keySet = KeySet.of(activeKey, verificationKeys);
+        rotationListeners.forEach(Runnable::run);
+    }
+
+    public void onRotation(Runnable listener) {
+        rotationListeners.add(listener);
+    }
+
+    private record KeySet(JwtKey activeKey, List<JwtKey> keys, Map<String, JwtKey> byKeyId) {
+
+        static KeySet of(JwtKey activeKey, List<JwtKey> verificationKeys) {
+            if (activeKey == null || !activeKey.canSign()) {
+                throw new IllegalArgumentException("The active JWT key must be able to sign tokens");
+            }
+
+            List<JwtKey> keys = new ArrayList<>(verificationKeys.size() + 1);
+            keys.add(activeKey);
+            keys.addAll(verificationKeys);
+
+            Map<String, JwtKey> byKeyId = new HashMap<>();
+            for (JwtKey key : keys) {
+                String keyId = key.getKeyId() == null ? NO_KEY_ID : key.getKeyId();
+                if (byKeyId.putIfAbsent(keyId, key) != null) {
+                    throw new IllegalArgumentException(keyId.isEmpty()
+                            ? "Only one JWT key can be configured without a key id"
+                            : "Duplicate JWT key id '" + keyId + "'");
+                }
+            }
+            return new KeySet(activeKey, List.copyOf(keys), Map.copyOf(byKeyId));
+        }
+    }
+}
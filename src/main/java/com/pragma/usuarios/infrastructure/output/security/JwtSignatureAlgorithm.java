@@ -0,0 +1,33 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+/**
+ * Token signing families supported by {@link JwtAdapter}.
+ * HMAC keeps the shared-secret behaviour (HS256/384/512 chosen from the key length),
+ * the asymmetric ones let other services verify tokens with the published JWKS.
+ */
+public enum JwtSignatureAlgorithm {
+
+    HMAC(null, null),
+    EDDSA("EdDSA", "Ed25519"),
+    ES256("ES256", "EC");
+
+    private final String jwsName;
+    private final String jcaKeyAlgorithm;
+
+    JwtSignatureAlgorithm(String jwsName, String jcaKeyAlgorithm) {
+        this.jwsName = jwsName;
+        this.jcaKeyAlgorithm = jcaKeyAlgorithm;
+    }
+
+    public String getJwsName() {
+        return jwsName;
+    }
+
+    public String getJcaKeyAlgorithm() {
+        return jcaKeyAlgorithm;
+    }
+
+    public boolean isAsymmetric() {
+        return this != HMAC;
+    }
+}
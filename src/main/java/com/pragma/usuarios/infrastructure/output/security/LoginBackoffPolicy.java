@@ -0,0 +1,51 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import com.pragma.usuarios.infrastructure.configuration.LoginAttemptProperties;
+
+/**
+ * Lock durations shared by the login attempt stores. An email is locked once it reaches the maximum number of
+ * failures, for the lock duration doubled with every further failure up to the maximum lock duration, counted
+ * from its last failure. Its failures are forgotten once it has been neither locked nor failing for the failure
+ * window.
+ */
+public final class LoginBackoffPolicy {
+
+    private final int maxFailures;
+    private final long lockMillis;
+    private final long maxLockMillis;
+    private final long windowMillis;
+
+    public LoginBackoffPolicy(LoginAttemptProperties properties) {
+        this.maxFailures = properties.getMaxFailures();
+        this.lockMillis = properties.getLockDuration().toMillis();
+        this.maxLockMillis = Math.max(lockMillis, properties.getMaxLockDuration().toMillis());
+        this.windowMillis = properties.getFailureWindow().toMillis();
+    }
+
+    public boolean locks(int failures) {
+        return failures >= maxFailures;
+    }
+
+    /**
+     * How long the email stays locked after its last failure, zero below the maximum number of failures.
+     */
+    public long lockMillis(int failures) {
+        if (!locks(failures)) {
+            return 0L;
+        }
+        // doubling stops before the shift overflows, the cap applies long before that
+        int exponent = Math.min(failures - maxFailures, Long.numberOfLeadingZeros(lockMillis) - 1);
+        return Math.min(lockMillis << exponent, maxLockMillis);
+    }
+
+    public long windowMillis() {
+        return windowMillis;
+    }
+
+    /**
+     * The longest an email's failures have to be kept.
+     */
+    public long retentionMillis() {
+        return maxLockMillis + windowMillis;
+    }
+}
@@ -0,0 +1,22 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+/**
+ * Password hashing algorithms, stored as the {@code {id}} prefix of each hash so the algorithm can change
+ * while older hashes still verify.
+ */
+public enum PasswordHashAlgorithm {
+
+    BCRYPT("bcrypt"),
+    PBKDF2("pbkdf2-sha256"),
+    ARGON2("argon2");
+
+    private final String id;
+
+    PasswordHashAlgorithm(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
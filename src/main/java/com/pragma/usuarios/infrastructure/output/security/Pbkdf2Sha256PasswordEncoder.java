@@ -0,0 +1,93 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * PBKDF2 with HMAC-SHA256, encoded as {@code iterations$salt$hash}. Unlike Spring's PBKDF2 encoder the iteration
+ * count is stored with the hash, so it can be raised or lowered without breaking the hashes already stored.
+ */
+public final class Pbkdf2Sha256PasswordEncoder implements PasswordEncoder {
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+
+    private final int iterations;
+    private final int saltLength;
+    private final int hashLength;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public Pbkdf2Sha256PasswordEncoder(int iterations, int saltLength, int hashLength) {
+        if (iterations < 1 || saltLength < 1 || hashLength < 1) {
+            throw new IllegalArgumentException("PBKDF2 iterations, salt length and hash length must be positive");
+        }
+        this.iterations = iterations;
+        this.saltLength = saltLength;
+        this.hashLength = hashLength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        byte[] salt = new byte[saltLength];
+        secureRandom.nextBytes(salt);
+        byte[] hash = pbkdf2(rawPassword, salt, iterations, hashLength);
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return iterations + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(hash);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Encoded encoded = Encoded.parse(encodedPassword);
+        if (rawPassword == null || encoded == null) {
+            return false;
+        }
+        byte[] hash = pbkdf2(rawPassword, encoded.salt(), encoded.iterations(), encoded.hash().length);
+        return MessageDigest.isEqual(hash, encoded.hash());
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        Encoded encoded = Encoded.parse(encodedPassword);
+        return encoded == null
+                || encoded.iterations() != iterations
+                || encoded.salt().length != saltLength
+                || encoded.hash().length != hashLength;
+    }
+
+    private static byte[] pbkdf2(CharSequence rawPassword, byte[] salt, int iterations, int hashLength) {
+        PBEKeySpec spec = new PBEKeySpec(rawPassword.toString().toCharArray(), salt, iterations, hashLength * 8);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ALGORITHM + " is not available", ex);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private record Encoded(int iterations, byte[] salt, byte[] hash) {
+
+        static Encoded parse(String encodedPassword) {
+            if (encodedPassword == null) {
+                return null;
+            }
+            String[] parts = encodedPassword.split("\\$");
+            if (parts.length != 3) {
+                return null;
+            }
+            try {
+                int iterations = Integer.parseInt(parts[0]);
+                byte[] salt = Base64.getDecoder().decode(parts[1]);
+                byte[] hash = Base64.getDecoder().decode(parts[2]);
+                return iterations > 0 && hash.length > 0 ? new Encoded(iterations, salt, hash) : null;
+            } catch (IllegalArgumentException _) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.function.Predicate;
+
+/**
+ * Verifies hashes made with any parameters of its algorithm but asks for a rehash of every hash whose
+ * parameters differ from the configured ones, weaker ones as well as more expensive ones.
+ */
+public final class RehashingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Predicate<String> hasCurrentParameters;
+
+    RehashingPasswordEncoder(PasswordEncoder delegate, Predicate<String> hasCurrentParameters) {
+        this.delegate = delegate;
+        this.hasCurrentParameters = hasCurrentParameters;
+    }
+
+    public static RehashingPasswordEncoder bcrypt(int strength) {
+        // $2a$10$<salt and hash>, the cost is the two digits after the version
+        String cost = String.format("$%02d$", strength);
+        return new RehashingPasswordEncoder(new BCryptPasswordEncoder(strength),
+                encoded -> encoded.length() > 7 && encoded.startsWith(cost, 3));
+    }
+
+    /**
+     * Argon2id with the memory in KiB. Requires Bouncy Castle on the classpath.
+     */
+    public static RehashingPasswordEncoder argon2(int saltLength, int hashLength, int parallelism,
+                                                  int memoryKib, int iterations) {
+        String parameters = "$argon2id$v=19$m=" + memoryKib + ",t=" + iterations + ",p=" + parallelism + "$";
+        return new RehashingPasswordEncoder(
+                new Argon2PasswordEncoder(saltLength, hashLength, parallelism, memoryKib, iterations),
+                encoded -> encoded.startsWith(parameters));
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encodedPassword == null || !hasCurrentParameters.test(encodedPassword);
+    }
+}
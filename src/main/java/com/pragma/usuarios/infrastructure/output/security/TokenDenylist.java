@@ -0,0 +1,62 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of revoked access tokens, consulted on every request without touching the database.
+ * <ul>
+ *     <li>Logged out tokens are kept by {@code jti} with their expiry, in epoch seconds, and dropped by
+ *     {@link #prune} once the token would have expired anyway.</li>
+ *     <li>Users signed out everywhere are kept with the token version their new tokens carry; anything
+ *     lower is revoked. There is one entry per signed-out user, not per token.</li>
+ * </ul>
+ * Both maps only ever grow towards more revocation, so entries loaded from the database can be merged in
+ * at any time without losing revocations made locally in the meantime.
+ */
+public final class TokenDenylist {
+
+    private final Map<String, Long> revokedTokenIds = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> minimumTokenVersions = new ConcurrentHashMap<>();
+
+    public boolean isRevoked(String tokenId, Long userId, int tokenVersion) {
+        if (tokenId != null && revokedTokenIds.containsKey(tokenId)) {
+            return true;
+        }
+        Integer minimumTokenVersion = userId == null ? null : minimumTokenVersions.get(userId);
+        return minimumTokenVersion != null && tokenVersion < minimumTokenVersion;
+    }
+
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        revokedTokenIds.merge(tokenId, expiresAt.getEpochSecond(), Math::max);
+    }
+
+    public void revokeTokensBefore(Long userId, int tokenVersion) {
+        minimumTokenVersions.merge(userId, tokenVersion, Math::max);
+    }
+
+    /**
+     * Forgets the tokens that have expired, the signature check rejects them from now on.
+     *
+     * @return the number of entries removed
+     */
+    public int prune(Instant now) {
+        long nowSeconds = now.getEpochSecond();
+        int removed = 0;
+        for (Map.Entry<String, Long> entry : revokedTokenIds.entrySet()) {
+            if (entry.getValue() <= nowSeconds && revokedTokenIds.remove(entry.getKey(), entry.getValue())) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public int revokedTokenCount() {
+        return revokedTokenIds.size();
+    }
+
+    public int signedOutUserCount() {
+        return minimumTokenVersions.size();
+    }
+}
@@ -0,0 +1,19 @@
+package com.pragma.usuarios.infrastructure.scheduling;
+
+import com.pragma.usuarios.domain.spi.ILoginAttemptPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LoginAttemptSweepTask {
+
+    private final ILoginAttemptPort loginAttemptPort;
+
+    @Scheduled(fixedDelayString = "${security.login-attempts.sweep-interval:1m}",
+            initialDelayString = "${security.login-attempts.sweep-interval:1m}")
+    public void purgeExpiredLoginAttempts() {
+        loginAttemptPort.purgeExpired();
+    }
+}
@@ -0,0 +1,23 @@
+package com.pragma.usuarios.infrastructure.scheduling;
+
+import com.pragma.usuarios.application.handler.IAuthHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeTask {
+
+    private final IAuthHandler authHandler;
+
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-interval:1h}", initialDelayString = "${jwt.refresh.purge-interval:1h}")
+    public void purgeExpiredRefreshTokens() {
+        int purged = authHandler.purgeExpiredRefreshTokens();
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.pragma.usuarios.infrastructure.scheduling;
+
+import com.pragma.usuarios.domain.spi.ITokenRevocationPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenPurgeTask {
+
+    private final ITokenRevocationPort tokenRevocationPort;
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:1h}",
+            initialDelayString = "${jwt.revocation.purge-interval:1h}")
+    public void purgeExpiredRevokedTokens() {
+        tokenRevocationPort.purgeExpired();
+    }
+}
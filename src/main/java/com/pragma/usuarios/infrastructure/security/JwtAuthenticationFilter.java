@@ -1,6 +1,8 @@
 package com.pragma.usuarios.infrastructure.security;
 
+import com.pragma.usuarios.domain.model.TokenClaims;
 import com.pragma.usuarios.domain.spi.IJwtPort;
+import com.pragma.usuarios.domain.spi.ITokenRevocationPort;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,9 +23,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final IJwtPort jwtPort;
+    private final ITokenRevocationPort tokenRevocationPort;
 
-    public JwtAuthenticationFilter(IJwtPort jwtPort) {
+    public JwtAuthenticationFilter(IJwtPort jwtPort, ITokenRevocationPort tokenRevocationPort) {
         this.jwtPort = jwtPort;
+        this.tokenRevocationPort = tokenRevocationPort;
     }
 
     @Override
@@ -40,30 +44,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = authHeader.substring(BEARER_PREFIX.length());
 
-        if (jwtPort.isTokenValid(token)) {
-            String email = jwtPort.extractEmail(token);
-            String role = jwtPort.extractRole(token);
-            Long userId = jwtPort.extractUserId(token);
+        // Signature and expiration are verified once; claims are read from the parsed result
+        jwtPort.parseToken(token)
+                .filter(TokenClaims::hasRequiredClaims)
+                .filter(claims -> !tokenRevocationPort.isRevoked(claims))
+                .ifPresent(this::authenticate);
 
-            // Validate that all required claims are present
-            if (email != null && !email.trim().isEmpty() &&
-                role != null && !role.trim().isEmpty() &&
-                userId != null) {
+        filterChain.doFilter(request, response);
+    }
 
-                List<SimpleGrantedAuthority> authorities = List.of(
-                        new SimpleGrantedAuthority("ROLE_" + role)
-                );
+    private void authenticate(TokenClaims claims) {
+        List<SimpleGrantedAuthority> authorities = List.of(
+                new SimpleGrantedAuthority("ROLE_" + claims.getRole())
+        );
 
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(email, null, authorities);
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(claims.getEmail(), null, authorities);
 
-                // Store userId in the details for later retrieval
-                authentication.setDetails(userId);
+        // Store userId in the details for later retrieval
+        authentication.setDetails(claims.getUserId());
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
-        }
-
-        filterChain.doFilter(request, response);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 }
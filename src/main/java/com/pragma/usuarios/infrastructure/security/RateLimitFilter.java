@@ -0,0 +1,124 @@
+package com.pragma.usuarios.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.pragma.usuarios.infrastructure.configuration.RateLimitProperties;
+import com.pragma.usuarios.infrastructure.http.HttpHeaderValues;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the configured routes per client address with token buckets, ahead of authentication, body parsing and
+ * password hashing. Limited responses carry {@code RateLimit-Limit}, {@code RateLimit-Remaining} and
+ * {@code RateLimit-Reset}; refused requests get 429 with {@code Retry-After}. The client address is the remote
+ * address, so behind a proxy {@code server.forward-headers-strategy} has to be set for it to be the caller's.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String LIMIT_HEADER = "RateLimit-Limit";
+    static final String REMAINING_HEADER = "RateLimit-Remaining";
+    static final String RESET_HEADER = "RateLimit-Reset";
+    private static final String METRIC_NAME = "http.server.requests.rate-limited";
+
+    private final boolean enabled;
+    private final Ticker ticker;
+    private final List<RouteRateLimiter> limiters;
+    private final List<Counter> rejected;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry registry) {
+        this(properties, registry, Ticker.systemTicker());
+    }
+
+    RateLimitFilter(RateLimitProperties properties, MeterRegistry registry, Ticker ticker) {
+        this.enabled = properties.isEnabled();
+        this.ticker = ticker;
+        this.limiters = properties.getRoutes().stream()
+                .map(route -> new RouteRateLimiter(route, properties.getMaximumClients(), ticker))
+                .toList();
+        this.rejected = limiters.stream()
+                .map(limiter -> Counter.builder(METRIC_NAME)
+                        .description("Requests refused because the client exceeded the route's rate limit")
+                        .tag("route", limiter.name())
+                        .register(registry))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || limiters.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        for (int i = 0; i < limiters.size(); i++) {
+            RouteRateLimiter limiter = limiters.get(i);
+            if (!limiter.matches(request)) {
+                continue;
+            }
+            RouteRateLimiter.Decision decision = limiter.acquire(request.getRemoteAddr(), ticker.read());
+            response.setHeader(LIMIT_HEADER, String.valueOf(limiter.capacity()));
+            response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+            response.setHeader(RESET_HEADER, String.valueOf(seconds(decision.resetNanos())));
+            if (!decision.allowed()) {
+                rejected.get(i).increment();
+                reject(request, response, decision);
+                return;
+            }
+            break;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private static void reject(HttpServletRequest request, HttpServletResponse response,
+                               RouteRateLimiter.Decision decision) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(
+                HttpHeaderValues.retryAfterSeconds(Duration.ofNanos(decision.retryAfterNanos()))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        // Same shape as the ErrorResponse bodies of GlobalExceptionHandler, which filters never reach
+        response.getWriter().write("{\"timestamp\":\"" + LocalDateTime.now()
+                + "\",\"status\":" + HttpStatus.TOO_MANY_REQUESTS.value()
+                + ",\"error\":\"Too Many Requests\""
+                + ",\"message\":\"Too many requests. Please try again later.\""
+                + ",\"path\":\"" + jsonEscape(request.getRequestURI()) + "\"}");
+    }
+
+    private static long seconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private static String jsonEscape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
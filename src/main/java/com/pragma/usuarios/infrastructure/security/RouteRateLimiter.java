@@ -0,0 +1,88 @@
+package com.pragma.usuarios.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.pragma.usuarios.infrastructure.configuration.RateLimitProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One token bucket per client address for a route. A bucket is a single {@link AtomicLong} holding the time at
+ * which it will be full again (the generic cell rate algorithm): a request moves that time one emission interval
+ * forward with compare-and-set, and is refused when it would land more than one period ahead. Buckets live in a
+ * bounded cache and are dropped one period after their last request, when they would be full anyway.
+ */
+final class RouteRateLimiter {
+
+    private final String name;
+    private final String method;
+    private final PathPattern pattern;
+    private final int capacity;
+    private final long periodNanos;
+    private final long intervalNanos;
+    private final Cache<String, AtomicLong> buckets;
+
+    RouteRateLimiter(RateLimitProperties.Route route, long maximumClients, Ticker ticker) {
+        this.name = route.getName();
+        this.method = route.getMethod();
+        this.pattern = PathPatternParser.defaultInstance.parse(route.getPath());
+        this.capacity = route.getCapacity();
+        this.periodNanos = route.getPeriod().toNanos();
+        this.intervalNanos = Math.max(1L, periodNanos / capacity);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumClients)
+                .expireAfterAccess(periodNanos, TimeUnit.NANOSECONDS)
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    String name() {
+        return name;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    boolean matches(HttpServletRequest request) {
+        if (method != null && !method.equalsIgnoreCase(request.getMethod())) {
+            return false;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return pattern.matches(PathContainer.parsePath(path));
+    }
+
+    Decision acquire(String client, long now) {
+        AtomicLong fullAt = buckets.get(client, _ -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long backlog = next - now;
+            if (backlog > periodNanos) {
+                return new Decision(false, 0, Math.max(current, now) - now, backlog - periodNanos);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Decision(true, (periodNanos - backlog) / intervalNanos, backlog, 0L);
+            }
+        }
+    }
+
+    long trackedClients() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * @param resetNanos time until the bucket is full again
+     * @param retryAfterNanos time until the next request would be allowed, zero when this one was
+     */
+    record Decision(boolean allowed, long remaining, long resetNanos, long retryAfterNanos) {
+    }
+}
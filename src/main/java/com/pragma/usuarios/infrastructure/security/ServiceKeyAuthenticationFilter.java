@@ -0,0 +1,73 @@
+package com.pragma.usuarios.infrastructure.security;
+
+import com.pragma.usuarios.infrastructure.configuration.ServiceAuthenticationProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * Authenticates internal callers that present one of the configured service keys, granting {@code ROLE_SERVICE}.
+ * Keys are compared as SHA-256 digests in constant time so neither their content nor their length leaks.
+ */
+@Component
+public class ServiceKeyAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String SERVICE_ROLE = "SERVICE";
+    private static final String SERVICE_PRINCIPAL = "service";
+
+    private final String header;
+    private final List<byte[]> keyDigests;
+
+    public ServiceKeyAuthenticationFilter(ServiceAuthenticationProperties properties) {
+        this.header = properties.getHeader();
+        this.keyDigests = properties.getKeys().stream()
+                .filter(key -> key != null && !key.isBlank())
+                .map(ServiceKeyAuthenticationFilter::digest)
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String serviceKey = request.getHeader(header);
+
+        if (serviceKey != null && isKnown(serviceKey)) {
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    SERVICE_PRINCIPAL, null, List.of(new SimpleGrantedAuthority("ROLE_" + SERVICE_ROLE)));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isKnown(String serviceKey) {
+        byte[] presented = digest(serviceKey);
+        boolean known = false;
+        for (byte[] keyDigest : keyDigests) {
+            known |= MessageDigest.isEqual(keyDigest, presented);
+        }
+        return known;
+    }
+
+    private static byte[] digest(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+-- Failed logins per email shared by every instance; a row is forgotten, and purged, once forget_at has passed
+CREATE TABLE login_attempts (
+    email VARCHAR2(255) PRIMARY KEY,
+    failures INTEGER NOT NULL,
+    locked_until TIMESTAMP WITH TIME ZONE,
+    forget_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_login_attempts_forget_at ON login_attempts(forget_at);
@@ -0,0 +1,7 @@
+-- Instances merge only the revocations and sign-outs made since their last sync, read through these indexes
+ALTER TABLE users ADD COLUMN token_version_updated_at TIMESTAMP WITH TIME ZONE;
+UPDATE users SET token_version_updated_at = CURRENT_TIMESTAMP WHERE token_version > 0;
+UPDATE revoked_tokens SET revoked_at = CURRENT_TIMESTAMP WHERE revoked_at IS NULL;
+
+CREATE INDEX idx_users_token_version_updated_at ON users(token_version_updated_at);
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens(revoked_at);
@@ -0,0 +1,3 @@
+-- A user's ETag covers every table its profile is read from, so a restaurant reassignment has to be dated too
+ALTER TABLE employee_restaurants ADD COLUMN updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP;
+UPDATE employee_restaurants SET updated_at = created_at WHERE created_at IS NOT NULL;
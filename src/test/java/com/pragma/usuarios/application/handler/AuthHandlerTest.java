@@ -1,9 +1,16 @@
 package com.pragma.usuarios.application.handler;
 
+import com.pragma.usuarios.application.dto.request.IntrospectRequest;
 import com.pragma.usuarios.application.dto.request.LoginRequest;
+import com.pragma.usuarios.application.dto.request.LogoutRequest;
+import com.pragma.usuarios.application.dto.request.RefreshTokenRequest;
 import com.pragma.usuarios.application.dto.response.AuthResponse;
+import com.pragma.usuarios.application.dto.response.IntrospectResponse;
+import com.pragma.usuarios.application.dto.response.JwkSetResponse;
+import com.pragma.usuarios.application.dto.response.TokenIntrospectionResponse;
 import com.pragma.usuarios.domain.api.IAuthServicePort;
-import com.pragma.usuarios.domain.spi.IJwtPort;
+import com.pragma.usuarios.domain.model.IssuedToken;
+import com.pragma.usuarios.domain.model.TokenClaims;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,10 +18,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.mockito.Mockito.reset;
 
 @ExtendWith(MockitoExtension.class)
 class AuthHandlerTest {
@@ -22,9 +33,6 @@ class AuthHandlerTest {
     @Mock
     private IAuthServicePort authServicePort;
 
-    @Mock
-    private IJwtPort jwtPort;
-
     @InjectMocks
     private AuthHandler authHandler;
 
@@ -34,6 +42,17 @@ class AuthHandlerTest {
     private static final Long USER_ID = 1L;
     private static final String ROLE = "OWNER";
 
+    private static IssuedToken issuedToken() {
+        return IssuedToken.builder()
+                .token(TOKEN)
+                .claims(TokenClaims.builder()
+                        .userId(USER_ID)
+                        .email(EMAIL)
+                        .role(ROLE)
+                        .build())
+                .build();
+    }
+
     @Test
     @DisplayName("Should return auth response when login is successful")
     void shouldReturnAuthResponseWhenLoginIsSuccessful() {
@@ -42,10 +61,7 @@ class AuthHandlerTest {
                 .password(PASSWORD)
                 .build();
 
-        when(authServicePort.authenticate(EMAIL, PASSWORD)).thenReturn(TOKEN);
-        when(jwtPort.extractUserId(TOKEN)).thenReturn(USER_ID);
-        when(jwtPort.extractEmail(TOKEN)).thenReturn(EMAIL);
-        when(jwtPort.extractRole(TOKEN)).thenReturn(ROLE);
+        when(authServicePort.authenticate(EMAIL, PASSWORD, null)).thenReturn(issuedToken());
 
         AuthResponse result = authHandler.login(request);
 
@@ -55,64 +71,89 @@ class AuthHandlerTest {
         assertThat(result.getEmail()).isEqualTo(EMAIL);
         assertThat(result.getRole()).isEqualTo(ROLE);
 
-        verify(authServicePort).authenticate(EMAIL, PASSWORD);
-        verify(jwtPort).extractUserId(TOKEN);
-        verify(jwtPort).extractEmail(TOKEN);
-        verify(jwtPort).extractRole(TOKEN);
+        verify(authServicePort).authenticate(EMAIL, PASSWORD, null);
     }
 
     @Test
-    @DisplayName("Should block after consecutive failed attempts")
-    void shouldBlockAfterConsecutiveFailedAttempts() {
+    @DisplayName("Should normalize the email before authenticating")
+    void shouldNormalizeEmailBeforeAuthenticating() {
         LoginRequest request = LoginRequest.builder()
-                .email(EMAIL)
+                .email("  Test@Example.COM ")
                 .password(PASSWORD)
                 .build();
+        when(authServicePort.authenticate(EMAIL, PASSWORD, null)).thenReturn(issuedToken());
 
-        when(authServicePort.authenticate(EMAIL, PASSWORD)).thenThrow(new com.pragma.usuarios.domain.exception.InvalidCredentialsException());
-
-        // first (MAX_FAILED_ATTEMPTS - 1) attempts -> InvalidCredentialsException
-        for (int i = 0; i < 4; i++) {
-            org.junit.jupiter.api.Assertions.assertThrows(
-                    com.pragma.usuarios.domain.exception.InvalidCredentialsException.class,
-                    () -> authHandler.login(request)
-            );
-        }
-
-        // next attempt should be blocked (TooManyLoginAttemptsException)
-        org.junit.jupiter.api.Assertions.assertThrows(
-                com.pragma.usuarios.domain.exception.TooManyLoginAttemptsException.class,
-                () -> authHandler.login(request)
-        );
+        authHandler.login(request);
+
+        verify(authServicePort).authenticate(EMAIL, PASSWORD, null);
     }
 
     @Test
-    @DisplayName("Should reset failed attempts after successful login")
-    void shouldResetAttemptsAfterSuccessfulLogin() {
-        LoginRequest request = LoginRequest.builder()
+    @DisplayName("Should wrap the public keys in a JWK set")
+    void shouldWrapPublicKeysInJwkSet() {
+        List<Map<String, Object>> jwks = List.of(Map.of("kty", "EC", "kid", "ec-1"));
+        when(authServicePort.getPublicKeys()).thenReturn(jwks);
+
+        JwkSetResponse result = authHandler.getJwkSet();
+
+        assertThat(result.getKeys()).isEqualTo(jwks);
+    }
+
+    @Test
+    @DisplayName("Should return the renewed tokens on refresh")
+    void shouldReturnRenewedTokensOnRefresh() {
+        IssuedToken renewed = issuedToken();
+        renewed.setRefreshToken("next-refresh-token");
+        when(authServicePort.refresh("refresh-token")).thenReturn(renewed);
+
+        AuthResponse result = authHandler.refresh(new RefreshTokenRequest("refresh-token"));
+
+        assertThat(result.getToken()).isEqualTo(TOKEN);
+        assertThat(result.getRefreshToken()).isEqualTo("next-refresh-token");
+        assertThat(result.getUserId()).isEqualTo(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should pass the access and refresh tokens on logout")
+    void shouldPassTokensOnLogout() {
+        authHandler.logout(TOKEN, new LogoutRequest("refresh-token"));
+
+        verify(authServicePort).logout(TOKEN, "refresh-token");
+    }
+
+    @Test
+    @DisplayName("Should log out without a request body")
+    void shouldLogoutWithoutRequestBody() {
+        authHandler.logout(TOKEN, null);
+
+        verify(authServicePort).logout(TOKEN, null);
+    }
+
+    @Test
+    @DisplayName("Should sign the user out everywhere")
+    void shouldSignUserOutEverywhere() {
+        authHandler.signOutEverywhere(USER_ID);
+
+        verify(authServicePort).signOutEverywhere(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should map introspected tokens to active and inactive results")
+    void shouldMapIntrospectedTokens() {
+        Instant expiresAt = Instant.parse("2026-01-01T00:00:00Z");
+        TokenClaims claims = TokenClaims.builder()
+                .userId(USER_ID)
                 .email(EMAIL)
-                .password(PASSWORD)
+                .role(ROLE)
+                .expiresAt(expiresAt)
                 .build();
+        when(authServicePort.introspect(List.of(TOKEN, "forged")))
+                .thenReturn(List.of(Optional.of(claims), Optional.empty()));
+
+        IntrospectResponse result = authHandler.introspect(new IntrospectRequest(List.of(TOKEN, "forged")));
 
-        // first attempt fails
-        when(authServicePort.authenticate(EMAIL, PASSWORD)).thenThrow(new com.pragma.usuarios.domain.exception.InvalidCredentialsException());
-        org.junit.jupiter.api.Assertions.assertThrows(com.pragma.usuarios.domain.exception.InvalidCredentialsException.class,
-                () -> authHandler.login(request));
-
-        // then a successful login
-        reset(authServicePort, jwtPort);
-        when(authServicePort.authenticate(EMAIL, PASSWORD)).thenReturn(TOKEN);
-        when(jwtPort.extractUserId(TOKEN)).thenReturn(USER_ID);
-        when(jwtPort.extractEmail(TOKEN)).thenReturn(EMAIL);
-        when(jwtPort.extractRole(TOKEN)).thenReturn(ROLE);
-
-        AuthResponse resp = authHandler.login(request);
-        assertThat(resp.getToken()).isEqualTo(TOKEN);
-
-        // after success, a subsequent failed attempt should behave as a new failure (not immediately blocked)
-        reset(authServicePort);
-        when(authServicePort.authenticate(EMAIL, PASSWORD)).thenThrow(new com.pragma.usuarios.domain.exception.InvalidCredentialsException());
-        org.junit.jupiter.api.Assertions.assertThrows(com.pragma.usuarios.domain.exception.InvalidCredentialsException.class,
-                () -> authHandler.login(request));
+        assertThat(result.getResults()).containsExactly(
+                new TokenIntrospectionResponse(true, USER_ID, EMAIL, ROLE, expiresAt.getEpochSecond()),
+                TokenIntrospectionResponse.inactive());
     }
 }
@@ -3,6 +3,8 @@ package com.pragma.usuarios.application.handler;
 import com.pragma.usuarios.application.dto.request.CreateClientRequest;
 import com.pragma.usuarios.application.dto.request.CreateEmployeeRequest;
 import com.pragma.usuarios.application.dto.request.CreateOwnerRequest;
+import com.pragma.usuarios.application.dto.request.UserLookupRequest;
+import com.pragma.usuarios.application.dto.response.UserLookupResponse;
 import com.pragma.usuarios.application.dto.response.UserResponse;
 import com.pragma.usuarios.application.mapper.UserRequestMapper;
 import com.pragma.usuarios.application.mapper.UserResponseMapper;
@@ -19,7 +21,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -441,4 +445,58 @@ class UserHandlerTest {
             verify(userServicePort).getUserById(userId);
         }
     }
+
+    @Nested
+    @DisplayName("Lookup Users Tests")
+    class LookupUsersTests {
+
+        private User user(Long id) {
+            User found = new User();
+            found.setId(id);
+            return found;
+        }
+
+        private UserResponse response(Long id) {
+            return UserResponse.builder().id(id).build();
+        }
+
+        @Test
+        @DisplayName("Should return found users in request order and report the missing ids")
+        void shouldReturnUsersInRequestOrderAndReportMissing() {
+            // Arrange
+            UserLookupRequest request = new UserLookupRequest(List.of(3L, 1L, 404L, 2L));
+            User first = user(1L);
+            User second = user(2L);
+            User third = user(3L);
+            when(userServicePort.getUsersByIds(any())).thenReturn(List.of(first, second, third));
+            when(userResponseMapper.toResponse(first)).thenReturn(response(1L));
+            when(userResponseMapper.toResponse(second)).thenReturn(response(2L));
+            when(userResponseMapper.toResponse(third)).thenReturn(response(3L));
+
+            // Act
+            UserLookupResponse result = userHandler.lookupUsers(request);
+
+            // Assert
+            assertEquals(List.of(3L, 1L, 2L), result.getUsers().stream().map(UserResponse::getId).toList());
+            assertEquals(List.of(404L), result.getMissingIds());
+        }
+
+        @Test
+        @DisplayName("Should resolve a batch with one call and each id once")
+        void shouldResolveBatchWithOneCall() {
+            // Arrange
+            UserLookupRequest request = new UserLookupRequest(List.of(1L, 2L, 1L));
+            User first = user(1L);
+            when(userServicePort.getUsersByIds(any())).thenReturn(List.of(first));
+            when(userResponseMapper.toResponse(first)).thenReturn(response(1L));
+
+            // Act
+            UserLookupResponse result = userHandler.lookupUsers(request);
+
+            // Assert
+            verify(userServicePort).getUsersByIds(Set.of(1L, 2L));
+            assertEquals(1, result.getUsers().size());
+            assertEquals(List.of(2L), result.getMissingIds());
+        }
+    }
 }
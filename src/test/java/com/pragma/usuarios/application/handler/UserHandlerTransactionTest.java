@@ -0,0 +1,153 @@
+package com.pragma.usuarios.application.handler;
+
+import com.pragma.usuarios.application.dto.request.CreateClientRequest;
+import com.pragma.usuarios.application.dto.request.CreateEmployeeRequest;
+import com.pragma.usuarios.application.dto.request.CreateOwnerRequest;
+import com.pragma.usuarios.application.dto.response.UserResponse;
+import com.pragma.usuarios.application.mapper.UserRequestMapper;
+import com.pragma.usuarios.application.mapper.UserResponseMapper;
+import com.pragma.usuarios.domain.api.IUserServicePort;
+import com.pragma.usuarios.domain.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs {@link UserHandler} behind Spring's transaction proxy, which the Mockito tests bypass, to pin down where
+ * transactions begin. The password is hashed inside {@link IUserServicePort}, so the transaction state seen there
+ * is the one the hash runs in.
+ */
+@SpringJUnitConfig(UserHandlerTransactionTest.TransactionConfiguration.class)
+class UserHandlerTransactionTest {
+
+    @Autowired
+    private IUserHandler userHandler;
+
+    @Autowired
+    private IUserServicePort userServicePort;
+
+    @Autowired
+    private UserRequestMapper userRequestMapper;
+
+    @Autowired
+    private UserResponseMapper userResponseMapper;
+
+    private final List<Boolean> transactionActive = new ArrayList<>();
+    private final User user = new User();
+
+    @BeforeEach
+    void setUp() {
+        reset(userServicePort, userRequestMapper, userResponseMapper);
+        transactionActive.clear();
+        when(userResponseMapper.toResponse(any())).thenReturn(UserResponse.builder().id(1L).build());
+    }
+
+    private User recordTransaction() {
+        transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+        return user;
+    }
+
+    @Test
+    @DisplayName("Should create users without a transaction open while the password is hashed")
+    void shouldCreateUsersOutsideTransaction() {
+        when(userRequestMapper.toUser(any(CreateOwnerRequest.class))).thenReturn(user);
+        when(userRequestMapper.toUser(any(CreateEmployeeRequest.class))).thenReturn(user);
+        when(userRequestMapper.toUser(any(CreateClientRequest.class))).thenReturn(user);
+        when(userServicePort.createOwner(user)).thenAnswer(_ -> recordTransaction());
+        when(userServicePort.createEmployee(user)).thenAnswer(_ -> recordTransaction());
+        when(userServicePort.createClient(user)).thenAnswer(_ -> recordTransaction());
+
+        userHandler.createOwner(new CreateOwnerRequest());
+        userHandler.createEmployee(new CreateEmployeeRequest());
+        userHandler.createClient(new CreateClientRequest());
+
+        assertThat(transactionActive).containsExactly(false, false, false);
+    }
+
+    @Test
+    @DisplayName("Should read users in a read-only transaction")
+    void shouldReadUsersInReadOnlyTransaction() {
+        List<Boolean> readOnly = new ArrayList<>();
+        when(userServicePort.getUserById(1L)).thenAnswer(_ -> {
+            readOnly.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return Optional.of(recordTransaction());
+        });
+
+        userHandler.getUserById(1L);
+
+        assertThat(transactionActive).containsExactly(true);
+        assertThat(readOnly).containsExactly(true);
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TransactionConfiguration {
+
+        @Bean
+        IUserServicePort userServicePort() {
+            return mock(IUserServicePort.class);
+        }
+
+        @Bean
+        UserRequestMapper userRequestMapper() {
+            return mock(UserRequestMapper.class);
+        }
+
+        @Bean
+        UserResponseMapper userResponseMapper() {
+            return mock(UserResponseMapper.class);
+        }
+
+        @Bean
+        IUserHandler userHandler(IUserServicePort userServicePort, UserRequestMapper userRequestMapper,
+                                 UserResponseMapper userResponseMapper) {
+            return new UserHandler(userServicePort, userRequestMapper, userResponseMapper);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new InMemoryTransactionManager();
+        }
+    }
+
+    // Begins and ends transactions without a resource; Spring still tracks them as it would around a database
+    static class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
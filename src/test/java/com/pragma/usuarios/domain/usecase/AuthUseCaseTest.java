@@ -1,22 +1,43 @@
 package com.pragma.usuarios.domain.usecase;
 
 import com.pragma.usuarios.domain.exception.InvalidCredentialsException;
+import com.pragma.usuarios.domain.exception.InvalidRefreshTokenException;
+import com.pragma.usuarios.domain.exception.PasswordHashingBusyException;
+import com.pragma.usuarios.domain.exception.TooManyLoginAttemptsException;
+import com.pragma.usuarios.domain.exception.UserNotFoundException;
+import com.pragma.usuarios.domain.model.IssuedToken;
+import com.pragma.usuarios.domain.model.RefreshToken;
 import com.pragma.usuarios.domain.model.Role;
+import com.pragma.usuarios.domain.model.TokenClaims;
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.domain.spi.IJwtPort;
+import com.pragma.usuarios.domain.spi.ILoginAttemptPort;
 import com.pragma.usuarios.domain.spi.IPasswordEncoderPort;
+import com.pragma.usuarios.domain.spi.IRefreshTokenPersistencePort;
+import com.pragma.usuarios.domain.spi.ITokenRevocationPort;
 import com.pragma.usuarios.domain.spi.IUserPersistencePort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -35,7 +56,15 @@ class AuthUseCaseTest {
     @Mock
     private IJwtPort jwtPort;
 
-    @InjectMocks
+    @Mock
+    private IRefreshTokenPersistencePort refreshTokenPersistencePort;
+
+    @Mock
+    private ITokenRevocationPort tokenRevocationPort;
+
+    @Mock
+    private ILoginAttemptPort loginAttemptPort;
+
     private AuthUseCase authUseCase;
 
     private User testUser;
@@ -43,9 +72,18 @@ class AuthUseCaseTest {
     private static final String PASSWORD = "password123";
     private static final String ENCODED_PASSWORD = "$2a$10$encodedPassword";
     private static final String TOKEN = "jwt.token.here";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(14);
+    private static final String REFRESH_TOKEN = "opaque-refresh-token";
+    // SHA-256 of REFRESH_TOKEN
+    private static final String REFRESH_TOKEN_HASH = "862f58013a2bd2d34eba271c56252c0e69b4715133aea31b0d0ebbb1470c3d6e";
 
     @BeforeEach
     void setUp() {
+        authUseCase = new AuthUseCase(userPersistencePort, passwordEncoderPort, jwtPort,
+                refreshTokenPersistencePort, tokenRevocationPort, loginAttemptPort, REFRESH_TOKEN_TTL,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+
         Role ownerRole = new Role(2L, "OWNER", "Restaurant owner");
 
         testUser = new User();
@@ -69,14 +107,50 @@ class AuthUseCaseTest {
         void shouldReturnTokenWhenCredentialsAreValid() {
             when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
             when(passwordEncoderPort.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
-            when(jwtPort.generateToken(testUser)).thenReturn(TOKEN);
+            IssuedToken issuedToken = IssuedToken.builder().token(TOKEN).build();
+            when(jwtPort.generateToken(testUser, null)).thenReturn(issuedToken);
 
-            String result = authUseCase.authenticate(EMAIL, PASSWORD);
+            IssuedToken result = authUseCase.authenticate(EMAIL, PASSWORD, null);
 
-            assertThat(result).isEqualTo(TOKEN);
+            assertThat(result).isSameAs(issuedToken);
+            assertThat(result.getRefreshToken()).isNotBlank();
+            assertThat(result.getRefreshTokenExpiresAt()).isEqualTo(NOW.plus(REFRESH_TOKEN_TTL));
             verify(userPersistencePort).findByEmail(EMAIL);
             verify(passwordEncoderPort).matches(PASSWORD, ENCODED_PASSWORD);
-            verify(jwtPort).generateToken(testUser);
+            verify(jwtPort).generateToken(testUser, null);
+        }
+
+        @Test
+        @DisplayName("Should store only the hash of the refresh token")
+        void shouldStoreOnlyHashOfRefreshToken() {
+            when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+            when(passwordEncoderPort.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+            when(jwtPort.generateToken(testUser, null)).thenReturn(IssuedToken.builder().token(TOKEN).build());
+
+            IssuedToken result = authUseCase.authenticate(EMAIL, PASSWORD, null);
+
+            ArgumentCaptor<RefreshToken> stored = ArgumentCaptor.forClass(RefreshToken.class);
+            verify(refreshTokenPersistencePort).save(stored.capture());
+            assertThat(stored.getValue().getTokenHash())
+                    .hasSize(64)
+                    .isNotEqualTo(result.getRefreshToken());
+            assertThat(stored.getValue().getUserId()).isEqualTo(1L);
+            assertThat(stored.getValue().getFamilyId()).isNotBlank();
+            assertThat(stored.getValue().isUsed()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should issue the token for the requested audience and remember it for refreshes")
+        void shouldIssueTokenForRequestedAudience() {
+            when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+            when(passwordEncoderPort.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+            when(jwtPort.generateToken(testUser, "gateway")).thenReturn(IssuedToken.builder().token(TOKEN).build());
+
+            authUseCase.authenticate(EMAIL, PASSWORD, "gateway");
+
+            ArgumentCaptor<RefreshToken> stored = ArgumentCaptor.forClass(RefreshToken.class);
+            verify(refreshTokenPersistencePort).save(stored.capture());
+            assertThat(stored.getValue().getAudience()).isEqualTo("gateway");
         }
 
         @Test
@@ -84,7 +158,7 @@ class AuthUseCaseTest {
         void shouldThrowExceptionWhenUserNotFound() {
             when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.empty());
 
-            assertThatThrownBy(() -> authUseCase.authenticate(EMAIL, PASSWORD))
+            assertThatThrownBy(() -> authUseCase.authenticate(EMAIL, PASSWORD, null))
                     .isInstanceOf(InvalidCredentialsException.class)
                     .hasMessage("Invalid email or password");
 
@@ -99,60 +173,467 @@ class AuthUseCaseTest {
             when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
             when(passwordEncoderPort.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(false);
 
-            assertThatThrownBy(() -> authUseCase.authenticate(EMAIL, PASSWORD))
+            assertThatThrownBy(() -> authUseCase.authenticate(EMAIL, PASSWORD, null))
                     .isInstanceOf(InvalidCredentialsException.class)
                     .hasMessage("Invalid email or password");
 
             verify(userPersistencePort).findByEmail(EMAIL);
             verify(passwordEncoderPort).matches(PASSWORD, ENCODED_PASSWORD);
+            verify(passwordEncoderPort, never()).upgradeEncoding(any());
             verifyNoInteractions(jwtPort);
         }
+
+        @Test
+        @DisplayName("Should rehash an outdated password hash after a successful login")
+        void shouldRehashOutdatedPasswordHash() {
+            when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+            when(passwordEncoderPort.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+            when(passwordEncoderPort.upgradeEncoding(ENCODED_PASSWORD)).thenReturn(true);
+            when(passwordEncoderPort.encode(PASSWORD)).thenReturn("{argon2}$argon2id$v=19$rehashed");
+            when(jwtPort.generateToken(testUser, null)).thenReturn(IssuedToken.builder().token(TOKEN).build());
+
+            authUseCase.authenticate(EMAIL, PASSWORD, null);
+
+            verify(userPersistencePort).updatePassword(1L, "{argon2}$argon2id$v=19$rehashed");
+        }
+
+        @Test
+        @DisplayName("Should keep a current password hash")
+        void shouldKeepCurrentPasswordHash() {
+            when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+            when(passwordEncoderPort.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+            when(passwordEncoderPort.upgradeEncoding(ENCODED_PASSWORD)).thenReturn(false);
+            when(jwtPort.generateToken(testUser, null)).thenReturn(IssuedToken.builder().token(TOKEN).build());
+
+            authUseCase.authenticate(EMAIL, PASSWORD, null);
+
+            verify(passwordEncoderPort, never()).encode(any());
+            verify(userPersistencePort, never()).updatePassword(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should still log in when the rehash cannot be hashed")
+        void shouldStillLogInWhenRehashCannotBeHashed() {
+            when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+            when(passwordEncoderPort.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+            when(passwordEncoderPort.upgradeEncoding(ENCODED_PASSWORD)).thenReturn(true);
+            when(passwordEncoderPort.encode(PASSWORD))
+                    .thenThrow(new PasswordHashingBusyException(Duration.ofSeconds(1)));
+            when(jwtPort.generateToken(testUser, null)).thenReturn(IssuedToken.builder().token(TOKEN).build());
+
+            IssuedToken result = authUseCase.authenticate(EMAIL, PASSWORD, null);
+
+            assertThat(result.getToken()).isEqualTo(TOKEN);
+            assertThat(result.getRefreshToken()).isNotBlank();
+            verify(loginAttemptPort).recordSuccess(EMAIL);
+            verify(userPersistencePort, never()).updatePassword(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should still log in when the rehash cannot be stored")
+        void shouldStillLogInWhenRehashCannotBeStored() {
+            when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+            when(passwordEncoderPort.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+            when(passwordEncoderPort.upgradeEncoding(ENCODED_PASSWORD)).thenReturn(true);
+            when(passwordEncoderPort.encode(PASSWORD)).thenReturn("{argon2}$argon2id$v=19$rehashed");
+            doThrow(new IllegalStateException("database unavailable"))
+                    .when(userPersistencePort).updatePassword(1L, "{argon2}$argon2id$v=19$rehashed");
+            when(jwtPort.generateToken(testUser, null)).thenReturn(IssuedToken.builder().token(TOKEN).build());
+
+            IssuedToken result = authUseCase.authenticate(EMAIL, PASSWORD, null);
+
+            assertThat(result.getToken()).isEqualTo(TOKEN);
+            verify(refreshTokenPersistencePort).save(any(RefreshToken.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Login Attempt Tests")
+    class LoginAttemptTests {
+
+        @Test
+        @DisplayName("Should reject a locked account before looking it up")
+        void shouldRejectLockedAccountBeforeLookup() {
+            when(loginAttemptPort.isLocked(EMAIL)).thenReturn(true);
+
+            assertThatThrownBy(() -> authUseCase.authenticate(EMAIL, PASSWORD, null))
+                    .isInstanceOf(TooManyLoginAttemptsException.class);
+
+            verifyNoInteractions(userPersistencePort, passwordEncoderPort, jwtPort);
+        }
+
+        @Test
+        @DisplayName("Should report the failure that locks the account")
+        void shouldReportFailureThatLocksAccount() {
+            when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+            when(passwordEncoderPort.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(false);
+            when(loginAttemptPort.recordFailure(EMAIL)).thenReturn(true);
+
+            assertThatThrownBy(() -> authUseCase.authenticate(EMAIL, PASSWORD, null))
+                    .isInstanceOf(TooManyLoginAttemptsException.class);
+        }
+
+        @Test
+        @DisplayName("Should count an unknown email as a failure")
+        void shouldCountUnknownEmailAsFailure() {
+            when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> authUseCase.authenticate(EMAIL, PASSWORD, null))
+                    .isInstanceOf(InvalidCredentialsException.class);
+
+            verify(loginAttemptPort).recordFailure(EMAIL);
+        }
+
+        @Test
+        @DisplayName("Should clear the failures after a successful login")
+        void shouldClearFailuresAfterSuccessfulLogin() {
+            when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+            when(passwordEncoderPort.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+            when(jwtPort.generateToken(testUser, null)).thenReturn(IssuedToken.builder().token(TOKEN).build());
+
+            authUseCase.authenticate(EMAIL, PASSWORD, null);
+
+            verify(loginAttemptPort).recordSuccess(EMAIL);
+            verify(loginAttemptPort, never()).recordFailure(any());
+        }
+
+        @Test
+        @DisplayName("Should answer identical concurrent attempts with one hash")
+        void shouldAnswerIdenticalConcurrentAttemptsWithOneHash() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+            when(passwordEncoderPort.matches(PASSWORD, ENCODED_PASSWORD))
+                    .thenAnswer(_ -> release.await(5, TimeUnit.SECONDS));
+            when(jwtPort.generateToken(testUser, null))
+                    .thenAnswer(_ -> IssuedToken.builder().token(TOKEN).build());
+
+            FutureTask<IssuedToken> first = login(PASSWORD);
+            awaitHashing();
+            FutureTask<IssuedToken> second = login(PASSWORD);
+            awaitWaiting(second);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).getRefreshToken())
+                    .isNotEqualTo(second.get(5, TimeUnit.SECONDS).getRefreshToken());
+            verify(passwordEncoderPort, times(1)).matches(PASSWORD, ENCODED_PASSWORD);
+            verify(refreshTokenPersistencePort, times(2)).save(any());
+        }
+
+        @Test
+        @DisplayName("Should check the lockout again before hashing a different concurrent attempt")
+        void shouldCheckLockoutBeforeHashingDifferentConcurrentAttempt() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            when(loginAttemptPort.isLocked(EMAIL)).thenReturn(false, false, true);
+            when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+            when(passwordEncoderPort.matches(PASSWORD, ENCODED_PASSWORD)).thenAnswer(_ -> {
+                release.await(5, TimeUnit.SECONDS);
+                return false;
+            });
+            when(loginAttemptPort.recordFailure(EMAIL)).thenReturn(true);
+
+            FutureTask<IssuedToken> first = login(PASSWORD);
+            awaitHashing();
+            FutureTask<IssuedToken> second = login("another-password");
+            awaitWaiting(second);
+            release.countDown();
+
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(TooManyLoginAttemptsException.class);
+            assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(TooManyLoginAttemptsException.class);
+            verify(passwordEncoderPort, times(1)).matches(any(), any());
+        }
+
+        private final Map<FutureTask<?>, Thread> threads = new ConcurrentHashMap<>();
+
+        private FutureTask<IssuedToken> login(String password) {
+            FutureTask<IssuedToken> task = new FutureTask<>(() -> authUseCase.authenticate(EMAIL, password, null));
+            Thread thread = new Thread(task);
+            threads.put(task, thread);
+            thread.start();
+            return task;
+        }
+
+        private void awaitHashing() throws InterruptedException {
+            waitUntil(() -> mockingDetails(passwordEncoderPort).getInvocations().stream()
+                    .anyMatch(invocation -> invocation.getMethod().getName().equals("matches")));
+        }
+
+        private void awaitWaiting(FutureTask<?> task) throws InterruptedException {
+            Thread thread = threads.get(task);
+            waitUntil(() -> thread.getState() == Thread.State.WAITING);
+        }
+
+        private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!condition.getAsBoolean()) {
+                assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+                Thread.sleep(5);
+            }
+        }
     }
 
     @Nested
     @DisplayName("Validate Token Tests")
     class ValidateTokenTests {
 
+        private TokenClaims claims() {
+            return TokenClaims.builder()
+                    .userId(1L)
+                    .email(EMAIL)
+                    .role("OWNER")
+                    .build();
+        }
+
         @Test
-        @DisplayName("Should return user when token is valid")
-        void shouldReturnUserWhenTokenIsValid() {
-            when(jwtPort.isTokenValid(TOKEN)).thenReturn(true);
-            when(jwtPort.extractEmail(TOKEN)).thenReturn(EMAIL);
-            when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+        @DisplayName("Should resolve the user from the token without a database lookup")
+        void shouldResolveUserFromTokenWithoutDatabaseLookup() {
+            TokenClaims claims = claims();
+            when(jwtPort.parseToken(TOKEN)).thenReturn(Optional.of(claims));
 
             User result = authUseCase.validateToken(TOKEN);
 
-            assertThat(result).isEqualTo(testUser);
-            verify(jwtPort).isTokenValid(TOKEN);
-            verify(jwtPort).extractEmail(TOKEN);
-            verify(userPersistencePort).findByEmail(EMAIL);
+            assertThat(result.getId()).isEqualTo(1L);
+            assertThat(result.getEmail()).isEqualTo(EMAIL);
+            assertThat(result.getRole().getName()).isEqualTo("OWNER");
+            verify(tokenRevocationPort).isRevoked(claims);
+            verifyNoInteractions(userPersistencePort);
         }
 
         @Test
         @DisplayName("Should throw exception when token is invalid")
         void shouldThrowExceptionWhenTokenIsInvalid() {
-            when(jwtPort.isTokenValid(TOKEN)).thenReturn(false);
+            when(jwtPort.parseToken(TOKEN)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> authUseCase.validateToken(TOKEN))
                     .isInstanceOf(InvalidCredentialsException.class);
 
-            verify(jwtPort).isTokenValid(TOKEN);
-            verify(jwtPort, never()).extractEmail(any());
+            verify(jwtPort).parseToken(TOKEN);
+            verifyNoInteractions(tokenRevocationPort);
         }
 
         @Test
-        @DisplayName("Should throw exception when user from token not found")
-        void shouldThrowExceptionWhenUserFromTokenNotFound() {
-            when(jwtPort.isTokenValid(TOKEN)).thenReturn(true);
-            when(jwtPort.extractEmail(TOKEN)).thenReturn(EMAIL);
-            when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.empty());
+        @DisplayName("Should throw exception when token has been revoked")
+        void shouldThrowExceptionWhenTokenIsRevoked() {
+            TokenClaims claims = claims();
+            when(jwtPort.parseToken(TOKEN)).thenReturn(Optional.of(claims));
+            when(tokenRevocationPort.isRevoked(claims)).thenReturn(true);
 
             assertThatThrownBy(() -> authUseCase.validateToken(TOKEN))
                     .isInstanceOf(InvalidCredentialsException.class);
+        }
 
-            verify(jwtPort).isTokenValid(TOKEN);
-            verify(jwtPort).extractEmail(TOKEN);
-            verify(userPersistencePort).findByEmail(EMAIL);
+        @Test
+        @DisplayName("Should throw exception when a required claim is missing")
+        void shouldThrowExceptionWhenRequiredClaimIsMissing() {
+            when(jwtPort.parseToken(TOKEN)).thenReturn(Optional.of(TokenClaims.builder().email(EMAIL).build()));
+
+            assertThatThrownBy(() -> authUseCase.validateToken(TOKEN))
+                    .isInstanceOf(InvalidCredentialsException.class);
+
+            verifyNoInteractions(tokenRevocationPort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Introspect Tests")
+    class IntrospectTests {
+
+        @Test
+        @DisplayName("Should report each token in request order")
+        void shouldReportEachTokenInRequestOrder() {
+            TokenClaims active = TokenClaims.builder().userId(1L).email(EMAIL).role("OWNER").build();
+            TokenClaims revoked = TokenClaims.builder().userId(2L).email("revoked@example.com").role("CLIENT").build();
+            when(jwtPort.parseToken("active")).thenReturn(Optional.of(active));
+            when(jwtPort.parseToken("revoked")).thenReturn(Optional.of(revoked));
+            when(jwtPort.parseToken("forged")).thenReturn(Optional.empty());
+            when(tokenRevocationPort.isRevoked(revoked)).thenReturn(true);
+
+            List<Optional<TokenClaims>> result = authUseCase.introspect(List.of("forged", "active", "revoked"));
+
+            assertThat(result).containsExactly(Optional.empty(), Optional.of(active), Optional.empty());
+            verifyNoInteractions(userPersistencePort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Logout Tests")
+    class LogoutTests {
+
+        @Test
+        @DisplayName("Should revoke the access token until it expires and the refresh token family")
+        void shouldRevokeAccessTokenAndRefreshFamily() {
+            Instant expiresAt = NOW.plusSeconds(600);
+            when(jwtPort.parseToken(TOKEN)).thenReturn(Optional.of(TokenClaims.builder()
+                    .tokenId("jti-1")
+                    .userId(1L)
+                    .expiresAt(expiresAt)
+                    .build()));
+            when(refreshTokenPersistencePort.findByTokenHash(REFRESH_TOKEN_HASH))
+                    .thenReturn(Optional.of(RefreshToken.builder()
+                            .tokenHash(REFRESH_TOKEN_HASH)
+                            .familyId("family-1")
+                            .userId(1L)
+                            .build()));
+
+            authUseCase.logout(TOKEN, REFRESH_TOKEN);
+
+            verify(tokenRevocationPort).revokeToken("jti-1", expiresAt);
+            verify(refreshTokenPersistencePort).revokeFamily("family-1", NOW);
+        }
+
+        @Test
+        @DisplayName("Should do nothing for invalid or missing tokens")
+        void shouldDoNothingForInvalidTokens() {
+            when(jwtPort.parseToken(TOKEN)).thenReturn(Optional.empty());
+
+            authUseCase.logout(TOKEN, null);
+
+            verifyNoInteractions(tokenRevocationPort);
+            verifyNoInteractions(refreshTokenPersistencePort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sign Out Everywhere Tests")
+    class SignOutEverywhereTests {
+
+        @Test
+        @DisplayName("Should bump the token version and revoke every refresh token of the user")
+        void shouldBumpTokenVersionAndRevokeRefreshTokens() {
+            when(userPersistencePort.incrementTokenVersion(1L)).thenReturn(Optional.of(3));
+
+            authUseCase.signOutEverywhere(1L);
+
+            verify(tokenRevocationPort).revokeTokensBefore(1L, 3);
+            verify(refreshTokenPersistencePort).revokeAllForUser(1L, NOW);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when user not found")
+        void shouldThrowExceptionWhenUserNotFound() {
+            when(userPersistencePort.incrementTokenVersion(99L)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> authUseCase.signOutEverywhere(99L))
+                    .isInstanceOf(UserNotFoundException.class);
+
+            verifyNoInteractions(tokenRevocationPort);
+            verifyNoInteractions(refreshTokenPersistencePort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Public Keys Tests")
+    class PublicKeysTests {
+
+        @Test
+        @DisplayName("Should return the public keys of the token codec")
+        void shouldReturnPublicKeysOfTokenCodec() {
+            List<Map<String, Object>> jwks = List.of(Map.of("kty", "OKP", "kid", "ed-1"));
+            when(jwtPort.publicJwks()).thenReturn(jwks);
+
+            assertThat(authUseCase.getPublicKeys()).isEqualTo(jwks);
+            verifyNoInteractions(userPersistencePort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Refresh Tests")
+    class RefreshTests {
+
+        private RefreshToken storedToken(Instant expiresAt, Instant usedAt) {
+            return RefreshToken.builder()
+                    .tokenHash(REFRESH_TOKEN_HASH)
+                    .familyId("family-1")
+                    .userId(1L)
+                    .expiresAt(expiresAt)
+                    .usedAt(usedAt)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Should rotate the refresh token within the same family without checking the password")
+        void shouldRotateRefreshToken() {
+            when(refreshTokenPersistencePort.findByTokenHash(REFRESH_TOKEN_HASH))
+                    .thenReturn(Optional.of(storedToken(NOW.plusSeconds(60), null)));
+            when(refreshTokenPersistencePort.markUsed(REFRESH_TOKEN_HASH, NOW)).thenReturn(true);
+            when(userPersistencePort.findById(1L)).thenReturn(Optional.of(testUser));
+            when(jwtPort.generateToken(testUser, null)).thenReturn(IssuedToken.builder().token(TOKEN).build());
+
+            IssuedToken result = authUseCase.refresh(REFRESH_TOKEN);
+
+            assertThat(result.getToken()).isEqualTo(TOKEN);
+            assertThat(result.getRefreshToken()).isNotEqualTo(REFRESH_TOKEN);
+            ArgumentCaptor<RefreshToken> stored = ArgumentCaptor.forClass(RefreshToken.class);
+            verify(refreshTokenPersistencePort).save(stored.capture());
+            assertThat(stored.getValue().getFamilyId()).isEqualTo("family-1");
+            verifyNoInteractions(passwordEncoderPort);
+        }
+
+        @Test
+        @DisplayName("Should keep the audience of the login when rotating")
+        void shouldKeepAudienceWhenRotating() {
+            RefreshToken stored = storedToken(NOW.plusSeconds(60), null);
+            stored.setAudience("gateway");
+            when(refreshTokenPersistencePort.findByTokenHash(REFRESH_TOKEN_HASH)).thenReturn(Optional.of(stored));
+            when(refreshTokenPersistencePort.markUsed(REFRESH_TOKEN_HASH, NOW)).thenReturn(true);
+            when(userPersistencePort.findById(1L)).thenReturn(Optional.of(testUser));
+            when(jwtPort.generateToken(testUser, "gateway")).thenReturn(IssuedToken.builder().token(TOKEN).build());
+
+            assertThat(authUseCase.refresh(REFRESH_TOKEN).getToken()).isEqualTo(TOKEN);
+        }
+
+        @Test
+        @DisplayName("Should revoke the family when a used token is presented again")
+        void shouldRevokeFamilyOnReuse() {
+            when(refreshTokenPersistencePort.findByTokenHash(REFRESH_TOKEN_HASH))
+                    .thenReturn(Optional.of(storedToken(NOW.plusSeconds(60), NOW.minusSeconds(5))));
+
+            assertThatThrownBy(() -> authUseCase.refresh(REFRESH_TOKEN))
+                    .isInstanceOf(InvalidRefreshTokenException.class);
+
+            verify(refreshTokenPersistencePort).revokeFamily("family-1", NOW);
+            verify(refreshTokenPersistencePort, never()).save(any());
+            verifyNoInteractions(jwtPort);
+        }
+
+        @Test
+        @DisplayName("Should revoke the family when a concurrent refresh used the token first")
+        void shouldRevokeFamilyWhenConcurrentRefreshWon() {
+            when(refreshTokenPersistencePort.findByTokenHash(REFRESH_TOKEN_HASH))
+                    .thenReturn(Optional.of(storedToken(NOW.plusSeconds(60), null)));
+            when(refreshTokenPersistencePort.markUsed(REFRESH_TOKEN_HASH, NOW)).thenReturn(false);
+
+            assertThatThrownBy(() -> authUseCase.refresh(REFRESH_TOKEN))
+                    .isInstanceOf(InvalidRefreshTokenException.class);
+
+            verify(refreshTokenPersistencePort).revokeFamily("family-1", NOW);
+            verifyNoInteractions(jwtPort);
+        }
+
+        @Test
+        @DisplayName("Should reject expired refresh tokens")
+        void shouldRejectExpiredRefreshTokens() {
+            when(refreshTokenPersistencePort.findByTokenHash(REFRESH_TOKEN_HASH))
+                    .thenReturn(Optional.of(storedToken(NOW, null)));
+            when(refreshTokenPersistencePort.markUsed(REFRESH_TOKEN_HASH, NOW)).thenReturn(true);
+
+            assertThatThrownBy(() -> authUseCase.refresh(REFRESH_TOKEN))
+                    .isInstanceOf(InvalidRefreshTokenException.class);
+
+            verify(refreshTokenPersistencePort, never()).revokeFamily(any(), any());
+            verifyNoInteractions(jwtPort);
+        }
+
+        @Test
+        @DisplayName("Should reject unknown refresh tokens")
+        void shouldRejectUnknownRefreshTokens() {
+            when(refreshTokenPersistencePort.findByTokenHash(REFRESH_TOKEN_HASH)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> authUseCase.refresh(REFRESH_TOKEN))
+                    .isInstanceOf(InvalidRefreshTokenException.class);
+
+            verifyNoInteractions(jwtPort, userPersistencePort);
         }
     }
 }
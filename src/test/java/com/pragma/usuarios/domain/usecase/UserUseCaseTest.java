@@ -20,6 +20,7 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -389,6 +390,37 @@ class UserUseCaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("Get Users By IDs")
+    class GetUsersByIdsTests {
+
+        @Test
+        @DisplayName("Should read every requested user at once")
+        void shouldReadEveryRequestedUserAtOnce() {
+            // Arrange
+            List<Long> ids = List.of(1L, 2L);
+            when(userPersistencePort.findAllByIds(ids)).thenReturn(List.of(validUser));
+
+            // Act
+            List<User> result = userUseCase.getUsersByIds(ids);
+
+            // Assert
+            assertEquals(List.of(validUser), result);
+            verify(userPersistencePort).findAllByIds(ids);
+        }
+
+        @Test
+        @DisplayName("Should not query when no ids are requested")
+        void shouldNotQueryWhenNoIdsRequested() {
+            // Act
+            List<User> result = userUseCase.getUsersByIds(List.of());
+
+            // Assert
+            assertTrue(result.isEmpty());
+            verify(userPersistencePort, never()).findAllByIds(any());
+        }
+    }
+
     @Nested
     @DisplayName("Create Employee - Success Cases")
     class CreateEmployeeSuccessCases {
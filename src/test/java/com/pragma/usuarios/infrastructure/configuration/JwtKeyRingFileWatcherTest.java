@@ -0,0 +1,80 @@
+package com.pragma.usuarios.infrastructure.configuration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingFileWatcherTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-must-be-at-least-256-bits-long";
+
+    @TempDir
+    Path directory;
+
+    private Path writeKeyring(String activeKeyId, String verificationKeyId) throws IOException {
+        StringBuilder yaml = new StringBuilder()
+                .append("jwt:\n")
+                .append("  key-id: ").append(activeKeyId).append('\n')
+                .append("  secret: ").append(SECRET).append('-').append(activeKeyId).append('\n');
+        if (verificationKeyId != null) {
+            yaml.append("  verification-keys:\n")
+                    .append("    - key-id: ").append(verificationKeyId).append('\n')
+                    .append("      secret: ").append(SECRET).append('-').append(verificationKeyId).append('\n');
+        }
+        return Files.writeString(directory.resolve("keyring.yml"), yaml);
+    }
+
+    @Test
+    @DisplayName("Should load the keyring from the file")
+    void shouldLoadKeyringFromFile() throws IOException {
+        try (JwtKeyRingFileWatcher watcher = new JwtKeyRingFileWatcher(writeKeyring("k2", "k1"))) {
+            assertThat(watcher.keyRing().activeKey().getKeyId()).isEqualTo("k2");
+            assertThat(watcher.keyRing().find("k1")).isPresent();
+        }
+    }
+
+    @Test
+    @DisplayName("Should rotate only when the file content changes")
+    void shouldRotateWhenFileChanges() throws IOException {
+        Path file = writeKeyring("k1", null);
+        try (JwtKeyRingFileWatcher watcher = new JwtKeyRingFileWatcher(file)) {
+            assertThat(watcher.reload()).isFalse();
+
+            writeKeyring("k2", "k1");
+
+            assertThat(watcher.reload()).isTrue();
+            assertThat(watcher.keyRing().activeKey().getKeyId()).isEqualTo("k2");
+            assertThat(watcher.keyRing().find("k1")).isPresent();
+            assertThat(watcher.reload()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the current keys when the file is invalid or missing")
+    void shouldKeepKeysWhenFileIsInvalid() throws IOException {
+        Path file = writeKeyring("k1", null);
+        try (JwtKeyRingFileWatcher watcher = new JwtKeyRingFileWatcher(file)) {
+            Files.writeString(file, "jwt:\n  key-id: k2\n  secret: too-short\n");
+            assertThat(watcher.reload()).isFalse();
+
+            Files.delete(file);
+            assertThat(watcher.reload()).isFalse();
+
+            assertThat(watcher.keyRing().activeKey().getKeyId()).isEqualTo("k1");
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail at startup when the file is missing")
+    void shouldFailWhenFileIsMissing() {
+        assertThatThrownBy(() -> new JwtKeyRingFileWatcher(directory.resolve("missing.yml")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
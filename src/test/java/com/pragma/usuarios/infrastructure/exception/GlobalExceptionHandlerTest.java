@@ -1,14 +1,18 @@
 package com.pragma.usuarios.infrastructure.exception;
 
+import com.pragma.usuarios.domain.exception.PasswordHashingBusyException;
 import com.pragma.usuarios.domain.exception.UserAlreadyExistsException;
 import com.pragma.usuarios.domain.exception.UserNotFoundException;
 import com.pragma.usuarios.domain.exception.UserUnderageException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -74,4 +78,15 @@ class GlobalExceptionHandlerTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertEquals(UNEXPECTED_ERROR_MESSAGE, response.getBody().getMessage());
     }
+
+    @Test
+    void handlePasswordHashingBusyException_ShouldReturnServiceUnavailableWithRetryAfter() {
+        PasswordHashingBusyException ex = new PasswordHashingBusyException(Duration.ofMillis(1500));
+        ResponseEntity<ErrorResponse> response = handler.handlePasswordHashingBusyException(ex, request);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("2", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("Service Unavailable", response.getBody().getError());
+        assertEquals(TEST_URI, response.getBody().getPath());
+    }
 }
@@ -0,0 +1,26 @@
+package com.pragma.usuarios.infrastructure.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpHeaderValuesTest {
+
+    @Test
+    @DisplayName("Should round Retry-After up to whole seconds")
+    void shouldRoundRetryAfterUp() {
+        assertThat(HttpHeaderValues.retryAfterSeconds(Duration.ofSeconds(2))).isEqualTo(2);
+        assertThat(HttpHeaderValues.retryAfterSeconds(Duration.ofMillis(2001))).isEqualTo(3);
+        assertThat(HttpHeaderValues.retryAfterSeconds(Duration.ofNanos(1))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should never send a Retry-After below one second")
+    void shouldNeverSendRetryAfterBelowOneSecond() {
+        assertThat(HttpHeaderValues.retryAfterSeconds(Duration.ZERO)).isEqualTo(1);
+        assertThat(HttpHeaderValues.retryAfterSeconds(Duration.ofSeconds(-5))).isEqualTo(1);
+    }
+}
@@ -1,10 +1,17 @@
 package com.pragma.usuarios.infrastructure.input.rest.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.usuarios.application.dto.request.IntrospectRequest;
 import com.pragma.usuarios.application.dto.request.LoginRequest;
+import com.pragma.usuarios.application.dto.request.LogoutRequest;
+import com.pragma.usuarios.application.dto.request.RefreshTokenRequest;
 import com.pragma.usuarios.application.dto.response.AuthResponse;
+import com.pragma.usuarios.application.dto.response.IntrospectResponse;
+import com.pragma.usuarios.application.dto.response.TokenIntrospectionResponse;
 import com.pragma.usuarios.application.handler.IAuthHandler;
 import com.pragma.usuarios.domain.exception.InvalidCredentialsException;
+import com.pragma.usuarios.domain.exception.InvalidRefreshTokenException;
+import com.pragma.usuarios.domain.exception.UserNotFoundException;
 import com.pragma.usuarios.infrastructure.exception.GlobalExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,7 +25,13 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.Collections;
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -152,4 +165,152 @@ class AuthRestControllerTest {
                     .andExpect(jsonPath("$.message").value("Invalid email or password"));
         }
     }
+
+    @Nested
+    @DisplayName("Refresh")
+    class RefreshCases {
+
+        private static final String REFRESH_URL = "/api/v1/auth/refresh";
+
+        @Test
+        @DisplayName("Should return 200 and the renewed tokens")
+        void shouldReturn200WithRenewedTokens() throws Exception {
+            AuthResponse response = AuthResponse.builder()
+                    .token(TOKEN)
+                    .tokenType("Bearer")
+                    .userId(1L)
+                    .email(EMAIL)
+                    .role("OWNER")
+                    .refreshToken("next-refresh-token")
+                    .build();
+            when(authHandler.refresh(any(RefreshTokenRequest.class))).thenReturn(response);
+
+            mockMvc.perform(post(REFRESH_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RefreshTokenRequest("refresh-token"))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.token").value(TOKEN))
+                    .andExpect(jsonPath("$.refreshToken").value("next-refresh-token"));
+        }
+
+        @Test
+        @DisplayName("Should return 401 when the refresh token is rejected")
+        void shouldReturn401WhenRefreshTokenIsRejected() throws Exception {
+            when(authHandler.refresh(any(RefreshTokenRequest.class)))
+                    .thenThrow(new InvalidRefreshTokenException());
+
+            mockMvc.perform(post(REFRESH_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RefreshTokenRequest("reused-token"))))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.message").value("Invalid or expired refresh token"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when the refresh token is blank")
+        void shouldReturn400WhenRefreshTokenIsBlank() throws Exception {
+            mockMvc.perform(post(REFRESH_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RefreshTokenRequest(""))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("Logout")
+    class LogoutCases {
+
+        private static final String LOGOUT_URL = "/api/v1/auth/logout";
+
+        @Test
+        @DisplayName("Should return 204 and revoke the bearer and refresh tokens")
+        void shouldReturn204AndRevokeTokens() throws Exception {
+            mockMvc.perform(post(LOGOUT_URL)
+                            .header("Authorization", "Bearer " + TOKEN)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new LogoutRequest("refresh-token"))))
+                    .andExpect(status().isNoContent());
+
+            verify(authHandler).logout(TOKEN, new LogoutRequest("refresh-token"));
+        }
+
+        @Test
+        @DisplayName("Should return 204 without a token or body")
+        void shouldReturn204WithoutTokenOrBody() throws Exception {
+            mockMvc.perform(post(LOGOUT_URL))
+                    .andExpect(status().isNoContent());
+
+            verify(authHandler).logout(isNull(), isNull());
+        }
+    }
+
+    @Nested
+    @DisplayName("Sign Out Everywhere")
+    class SignOutEverywhereCases {
+
+        @Test
+        @DisplayName("Should return 204 when the user is signed out")
+        void shouldReturn204WhenUserIsSignedOut() throws Exception {
+            mockMvc.perform(post("/api/v1/auth/users/1/sign-out"))
+                    .andExpect(status().isNoContent());
+
+            verify(authHandler).signOutEverywhere(1L);
+        }
+
+        @Test
+        @DisplayName("Should return 404 when the user does not exist")
+        void shouldReturn404WhenUserDoesNotExist() throws Exception {
+            doThrow(new UserNotFoundException("User not found with id: 99"))
+                    .when(authHandler).signOutEverywhere(99L);
+
+            mockMvc.perform(post("/api/v1/auth/users/99/sign-out"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("Introspect")
+    class IntrospectCases {
+
+        private static final String INTROSPECT_URL = "/api/v1/auth/introspect";
+
+        @Test
+        @DisplayName("Should return 200 with one result per token")
+        void shouldReturn200WithOneResultPerToken() throws Exception {
+            IntrospectResponse response = new IntrospectResponse(List.of(
+                    new TokenIntrospectionResponse(true, 1L, EMAIL, "OWNER", 1767225600L),
+                    TokenIntrospectionResponse.inactive()));
+            when(authHandler.introspect(any(IntrospectRequest.class))).thenReturn(response);
+
+            mockMvc.perform(post(INTROSPECT_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new IntrospectRequest(List.of(TOKEN, "forged")))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results[0].active").value(true))
+                    .andExpect(jsonPath("$.results[0].userId").value(1))
+                    .andExpect(jsonPath("$.results[0].exp").value(1767225600L))
+                    .andExpect(jsonPath("$.results[1].active").value(false))
+                    .andExpect(jsonPath("$.results[1].userId").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should return 400 when no token is given")
+        void shouldReturn400WhenNoTokenIsGiven() throws Exception {
+            mockMvc.perform(post(INTROSPECT_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new IntrospectRequest(List.of()))))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Should return 400 when the batch is too large")
+        void shouldReturn400WhenBatchIsTooLarge() throws Exception {
+            List<String> tokens = Collections.nCopies(IntrospectRequest.MAX_TOKENS + 1, TOKEN);
+
+            mockMvc.perform(post(INTROSPECT_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new IntrospectRequest(tokens))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
 }
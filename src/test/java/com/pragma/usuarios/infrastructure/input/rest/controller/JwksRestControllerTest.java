@@ -0,0 +1,63 @@
+package com.pragma.usuarios.infrastructure.input.rest.controller;
+
+import com.pragma.usuarios.application.dto.response.JwkSetResponse;
+import com.pragma.usuarios.application.handler.IAuthHandler;
+import com.pragma.usuarios.infrastructure.configuration.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwksRestControllerTest {
+
+    private static final String JWKS_URL = "/api/v1/auth/.well-known/jwks.json";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private IAuthHandler authHandler;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setJwksMaxAge(Duration.ofMinutes(10));
+        mockMvc = MockMvcBuilders.standaloneSetup(new JwksRestController(authHandler, jwtProperties)).build();
+
+        when(authHandler.getJwkSet()).thenReturn(new JwkSetResponse(
+                List.of(Map.of("kty", "OKP", "crv", "Ed25519", "kid", "ed-1", "x", "abc"))));
+    }
+
+    @Test
+    @DisplayName("Should return the key set with cache headers")
+    void shouldReturnKeySetWithCacheHeaders() throws Exception {
+        mockMvc.perform(get(JWKS_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.keys[0].kid").value("ed-1"))
+                .andExpect(header().string("Cache-Control", "max-age=600, public"))
+                .andExpect(header().exists("ETag"));
+    }
+
+    @Test
+    @DisplayName("Should return 304 when the ETag matches")
+    void shouldReturn304WhenETagMatches() throws Exception {
+        String etag = mockMvc.perform(get(JWKS_URL))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get(JWKS_URL).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+}
@@ -3,26 +3,32 @@ package com.pragma.usuarios.infrastructure.input.rest.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.pragma.usuarios.application.dto.request.CreateOwnerRequest;
+import com.pragma.usuarios.application.dto.request.UserLookupRequest;
+import com.pragma.usuarios.application.dto.response.UserLookupResponse;
 import com.pragma.usuarios.application.dto.response.UserResponse;
 import com.pragma.usuarios.application.handler.IUserHandler;
 import com.pragma.usuarios.domain.exception.InvalidEmailException;
 import com.pragma.usuarios.domain.exception.UserAlreadyExistsException;
 import com.pragma.usuarios.domain.exception.UserUnderageException;
+import com.pragma.usuarios.infrastructure.configuration.UserHttpProperties;
 import com.pragma.usuarios.infrastructure.exception.GlobalExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -44,7 +50,6 @@ class UserRestControllerTest {
     @Mock
     private IUserHandler userHandler;
 
-    @InjectMocks
     private UserRestController userRestController;
 
     private MockMvc mockMvc;
@@ -52,6 +57,7 @@ class UserRestControllerTest {
 
     @BeforeEach
     void setUp() {
+        userRestController = new UserRestController(userHandler, new UserHttpProperties());
         mockMvc = MockMvcBuilders.standaloneSetup(userRestController)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
@@ -357,5 +363,100 @@ class UserRestControllerTest {
 
             verify(userHandler).getUserById(userId);
         }
+
+        @Test
+        @DisplayName("Should send a strong ETag, Last-Modified and Cache-Control")
+        void shouldSendValidatorsAndCacheControl() throws Exception {
+            // Arrange
+            Long userId = 1L;
+            Instant updatedAt = Instant.parse("2026-03-01T10:30:15.123456Z");
+            UserResponse response = UserResponse.builder().id(userId).email(OWNER_EMAIL).updatedAt(updatedAt).build();
+            when(userHandler.getUserById(userId)).thenReturn(Optional.of(response));
+
+            // Act & Assert
+            mockMvc.perform(get(BASE_URL + "/" + userId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, UserRestController.eTag(userId, updatedAt)))
+                    .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Sun, 01 Mar 2026 10:30:15 GMT"))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                    .andExpect(jsonPath("$.updatedAt").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should return 304 without a body when the ETag still matches")
+        void shouldReturn304WhenETagMatches() throws Exception {
+            // Arrange
+            Long userId = 1L;
+            Instant updatedAt = Instant.parse("2026-03-01T10:30:15Z");
+            UserResponse response = UserResponse.builder().id(userId).email(OWNER_EMAIL).updatedAt(updatedAt).build();
+            when(userHandler.getUserById(userId)).thenReturn(Optional.of(response));
+
+            // Act & Assert
+            mockMvc.perform(get(BASE_URL + "/" + userId)
+                            .header(HttpHeaders.IF_NONE_MATCH, UserRestController.eTag(userId, updatedAt)))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, UserRestController.eTag(userId, updatedAt)))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should return the user when it changed since the given ETag")
+        void shouldReturnUserWhenETagIsStale() throws Exception {
+            // Arrange
+            Long userId = 1L;
+            Instant updatedAt = Instant.parse("2026-03-01T10:30:15Z");
+            UserResponse response = UserResponse.builder().id(userId).email(OWNER_EMAIL).updatedAt(updatedAt).build();
+            when(userHandler.getUserById(userId)).thenReturn(Optional.of(response));
+
+            // Act & Assert
+            mockMvc.perform(get(BASE_URL + "/" + userId)
+                            .header(HttpHeaders.IF_NONE_MATCH,
+                                    UserRestController.eTag(userId, updatedAt.minusSeconds(1))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.email").value(OWNER_EMAIL));
+        }
+    }
+
+    @Nested
+    @DisplayName("Lookup Users")
+    class LookupUsersTests {
+
+        private static final String LOOKUP_ENDPOINT = "/lookup";
+
+        @Test
+        @DisplayName("Should return found users and missing ids")
+        void shouldReturnFoundUsersAndMissingIds() throws Exception {
+            // Arrange
+            UserLookupRequest request = new UserLookupRequest(List.of(2L, 404L));
+            UserResponse response = UserResponse.builder().id(2L).email(OWNER_EMAIL).build();
+            when(userHandler.lookupUsers(any(UserLookupRequest.class)))
+                    .thenReturn(new UserLookupResponse(List.of(response), List.of(404L)));
+
+            // Act & Assert
+            mockMvc.perform(post(BASE_URL + LOOKUP_ENDPOINT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.users[0].id").value(2))
+                    .andExpect(jsonPath("$.users[0].email").value(OWNER_EMAIL))
+                    .andExpect(jsonPath("$.missingIds[0]").value(404));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an oversized batch")
+        void shouldReturn400ForOversizedBatch() throws Exception {
+            // Arrange
+            List<Long> ids = LongStream.rangeClosed(1, UserLookupRequest.MAX_IDS + 1L)
+                    .boxed()
+                    .toList();
+
+            // Act & Assert
+            mockMvc.perform(post(BASE_URL + LOOKUP_ENDPOINT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new UserLookupRequest(ids))))
+                    .andExpect(status().isBadRequest());
+
+            verify(userHandler, never()).lookupUsers(any());
+        }
     }
 }
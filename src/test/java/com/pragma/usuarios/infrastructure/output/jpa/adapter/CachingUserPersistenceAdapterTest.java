@@ -0,0 +1,193 @@
+package com.pragma.usuarios.infrastructure.output.jpa.adapter;
+
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.spi.IUserPersistencePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserPersistenceAdapterTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private IUserPersistencePort delegate;
+
+    private AtomicLong nanos;
+    private CachingUserPersistenceAdapter cachingAdapter;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong();
+        cachingAdapter = new CachingUserPersistenceAdapter(delegate, 100, TTL, nanos::get);
+    }
+
+    private User user(Long id, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        return user;
+    }
+
+    @Test
+    @DisplayName("Should read a repeated user only once")
+    void shouldReadRepeatedUserOnlyOnce() {
+        User user = user(USER_ID, "client@example.com");
+        when(delegate.findById(USER_ID)).thenReturn(Optional.of(user));
+
+        assertThat(cachingAdapter.findById(USER_ID)).contains(user);
+        assertThat(cachingAdapter.findById(USER_ID)).contains(user);
+
+        verify(delegate, times(1)).findById(USER_ID);
+        assertThat(cachingAdapter.stats().hitCount()).isEqualTo(1);
+        assertThat(cachingAdapter.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should read the user again once its entry has expired")
+    void shouldReadAgainAfterTtl() {
+        when(delegate.findById(USER_ID)).thenReturn(Optional.of(user(USER_ID, "client@example.com")));
+        cachingAdapter.findById(USER_ID);
+
+        nanos.addAndGet(TTL.toNanos());
+        cachingAdapter.findById(USER_ID);
+
+        verify(delegate, times(2)).findById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should not cache a user that does not exist")
+    void shouldNotCacheUnknownUser() {
+        when(delegate.findById(USER_ID)).thenReturn(Optional.empty());
+
+        assertThat(cachingAdapter.findById(USER_ID)).isEmpty();
+        assertThat(cachingAdapter.findById(USER_ID)).isEmpty();
+
+        verify(delegate, times(2)).findById(USER_ID);
+        assertThat(cachingAdapter.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop the cached user when a user is saved with its id")
+    void shouldDropCachedUserWhenSaved() {
+        User update = user(USER_ID, "new@example.com");
+        when(delegate.findById(USER_ID))
+                .thenReturn(Optional.of(user(USER_ID, "old@example.com")))
+                .thenReturn(Optional.of(update));
+        when(delegate.saveUser(update)).thenReturn(update);
+        cachingAdapter.findById(USER_ID);
+
+        cachingAdapter.saveUser(update);
+
+        assertThat(cachingAdapter.findById(USER_ID)).map(User::getEmail).contains("new@example.com");
+    }
+
+    @Test
+    @DisplayName("Should drop the cached user when its password changes")
+    void shouldDropCachedUserWhenPasswordChanges() {
+        when(delegate.findById(USER_ID)).thenReturn(Optional.of(user(USER_ID, "client@example.com")));
+        cachingAdapter.findById(USER_ID);
+
+        cachingAdapter.updatePassword(USER_ID, "{argon2}rehashed");
+        cachingAdapter.findById(USER_ID);
+
+        verify(delegate).updatePassword(USER_ID, "{argon2}rehashed");
+        verify(delegate, times(2)).findById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should drop the cached user when its token version is bumped, even if the write fails")
+    void shouldDropCachedUserWhenTokenVersionChanges() {
+        when(delegate.findById(USER_ID)).thenReturn(Optional.of(user(USER_ID, "client@example.com")));
+        when(delegate.incrementTokenVersion(USER_ID))
+                .thenReturn(Optional.of(2))
+                .thenThrow(new IllegalStateException("database unavailable"));
+        cachingAdapter.findById(USER_ID);
+
+        assertThat(cachingAdapter.incrementTokenVersion(USER_ID)).contains(2);
+        cachingAdapter.findById(USER_ID);
+        assertThatThrownBy(() -> cachingAdapter.incrementTokenVersion(USER_ID))
+                .isInstanceOf(IllegalStateException.class);
+        cachingAdapter.findById(USER_ID);
+
+        verify(delegate, times(3)).findById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should leave lookups by email to the database")
+    void shouldNotCacheLookupsByEmail() {
+        when(delegate.findByEmail("client@example.com"))
+                .thenReturn(Optional.of(user(USER_ID, "client@example.com")));
+
+        cachingAdapter.findByEmail("client@example.com");
+        cachingAdapter.findByEmail("client@example.com");
+
+        verify(delegate, times(2)).findByEmail("client@example.com");
+        assertThat(cachingAdapter.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should load a user once for concurrent misses")
+    void shouldLoadOnceForConcurrentMisses() throws Exception {
+        int threads = 16;
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById(USER_ID)).thenAnswer(_ -> {
+            loading.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return Optional.of(user(USER_ID, "client@example.com"));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Optional<User>>> futures = IntStream.range(0, threads)
+                    .mapToObj(_ -> executor.submit(() -> cachingAdapter.findById(USER_ID)))
+                    .toList();
+            assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+            release.countDown();
+
+            for (Future<Optional<User>> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS)).isPresent();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(delegate, times(1)).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should publish its hit and miss counts")
+    void shouldPublishHitAndMissCounts() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cachingAdapter.bindTo(registry);
+        when(delegate.findById(USER_ID)).thenReturn(Optional.of(user(USER_ID, "client@example.com")));
+
+        cachingAdapter.findById(USER_ID);
+        cachingAdapter.findById(USER_ID);
+
+        assertThat(registry.get("cache.gets").tag("cache", "users.by-id").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,182 @@
+package com.pragma.usuarios.infrastructure.output.jpa.adapter;
+
+import com.pragma.usuarios.infrastructure.configuration.LoginAttemptProperties;
+import com.pragma.usuarios.infrastructure.output.jpa.entity.LoginAttemptEntity;
+import com.pragma.usuarios.infrastructure.output.jpa.repository.ILoginAttemptRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LoginAttemptJpaAdapterTest {
+
+    private static final String EMAIL = "test@example.com";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final int MAX_FAILURES = 5;
+    private static final Duration LOCK_DURATION = Duration.ofMinutes(15);
+    private static final Duration FAILURE_WINDOW = Duration.ofMinutes(10);
+
+    private Clock clock;
+    private InProcessLoginAttemptRepository repository;
+    private LoginAttemptJpaAdapter node1;
+    private LoginAttemptJpaAdapter node2;
+
+    @BeforeEach
+    void setUp() {
+        LoginAttemptProperties properties = new LoginAttemptProperties();
+        properties.setMaxFailures(MAX_FAILURES);
+        properties.setLockDuration(LOCK_DURATION);
+        properties.setFailureWindow(FAILURE_WINDOW);
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        repository = new InProcessLoginAttemptRepository();
+        node1 = new LoginAttemptJpaAdapter(repository, properties, clock);
+        node2 = new LoginAttemptJpaAdapter(repository, properties, clock);
+    }
+
+    private void advance(Duration duration) {
+        Instant now = clock.instant().plus(duration);
+        when(clock.instant()).thenReturn(now);
+    }
+
+    @Test
+    @DisplayName("Should count the failures of every instance towards one lock")
+    void shouldCountFailuresOfEveryInstance() {
+        node1.recordFailure(EMAIL);
+        node2.recordFailure(EMAIL);
+        node1.recordFailure(EMAIL);
+        node2.recordFailure(EMAIL);
+
+        assertThat(node1.recordFailure(EMAIL)).isTrue();
+        assertThat(node2.isLocked(EMAIL)).isTrue();
+        assertThat(repository.rows.get(EMAIL).getLockedUntil()).isEqualTo(NOW.plus(LOCK_DURATION));
+    }
+
+    @Test
+    @DisplayName("Should answer a known lock without querying the database")
+    void shouldAnswerKnownLockFromMemory() {
+        for (int i = 0; i < MAX_FAILURES; i++) {
+            node1.recordFailure(EMAIL);
+        }
+        assertThat(node2.isLocked(EMAIL)).isTrue();
+        int lookups = repository.lockLookups;
+
+        assertThat(node1.isLocked(EMAIL)).isTrue();
+        assertThat(node2.isLocked(EMAIL)).isTrue();
+        assertThat(repository.lockLookups).isEqualTo(lookups);
+
+        advance(LOCK_DURATION);
+        assertThat(node2.isLocked(EMAIL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should double the lock for a failure after the first lock")
+    void shouldDoubleLockAfterFirstLock() {
+        for (int i = 0; i < MAX_FAILURES; i++) {
+            node1.recordFailure(EMAIL);
+        }
+        advance(LOCK_DURATION);
+
+        assertThat(node2.recordFailure(EMAIL)).isTrue();
+
+        assertThat(repository.rows.get(EMAIL).getLockedUntil())
+                .isEqualTo(clock.instant().plus(LOCK_DURATION.multipliedBy(2)));
+    }
+
+    @Test
+    @DisplayName("Should start over once the failures are forgotten")
+    void shouldStartOverOnceForgotten() {
+        for (int i = 0; i < MAX_FAILURES - 1; i++) {
+            node1.recordFailure(EMAIL);
+        }
+        advance(FAILURE_WINDOW);
+
+        assertThat(node2.recordFailure(EMAIL)).isFalse();
+        assertThat(repository.rows.get(EMAIL).getFailures()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should clear the failures after a successful login")
+    void shouldClearFailuresAfterSuccess() {
+        node1.recordFailure(EMAIL);
+
+        node2.recordSuccess(EMAIL);
+
+        assertThat(repository.rows).doesNotContainKey(EMAIL);
+    }
+
+    @Test
+    @DisplayName("Should purge only forgotten failures")
+    void shouldPurgeOnlyForgottenFailures() {
+        node1.recordFailure("old@example.com");
+        advance(FAILURE_WINDOW);
+        node1.recordFailure(EMAIL);
+
+        node2.purgeExpired();
+
+        assertThat(repository.rows).containsOnlyKeys(EMAIL);
+    }
+
+    /**
+     * The statements of {@link ILoginAttemptRepository} over a map, standing in for the shared table.
+     */
+    private static final class InProcessLoginAttemptRepository implements ILoginAttemptRepository {
+
+        private final Map<String, LoginAttemptEntity> rows = new HashMap<>();
+        private int lockLookups;
+
+        @Override
+        public synchronized int recordFailure(String email, Instant now, Instant forgetAt) {
+            LoginAttemptEntity row = rows.get(email);
+            if (row == null) {
+                row = LoginAttemptEntity.builder().email(email).failures(1).forgetAt(forgetAt).build();
+                rows.put(email, row);
+                return 1;
+            }
+            row.setFailures(row.getForgetAt().isAfter(now) ? row.getFailures() + 1 : 1);
+            row.setForgetAt(row.getForgetAt().isAfter(forgetAt) ? row.getForgetAt() : forgetAt);
+            return row.getFailures();
+        }
+
+        @Override
+        public synchronized int lock(String email, int failures, Instant lockedUntil, Instant forgetAt) {
+            LoginAttemptEntity row = rows.get(email);
+            if (row == null || row.getFailures() != failures) {
+                return 0;
+            }
+            row.setLockedUntil(lockedUntil);
+            row.setForgetAt(forgetAt);
+            return 1;
+        }
+
+        @Override
+        public synchronized Optional<Instant> findLockedUntil(String email, Instant now) {
+            lockLookups++;
+            return Optional.ofNullable(rows.get(email))
+                    .map(LoginAttemptEntity::getLockedUntil)
+                    .filter(now::isBefore);
+        }
+
+        @Override
+        public synchronized int deleteByEmail(String email) {
+            return rows.remove(email) == null ? 0 : 1;
+        }
+
+        @Override
+        public synchronized int deleteForgotten(Instant now) {
+            int before = rows.size();
+            rows.values().removeIf(row -> !row.getForgetAt().isAfter(now));
+            return before - rows.size();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.pragma.usuarios.infrastructure.output.jpa.adapter;
+
+import com.pragma.usuarios.domain.model.RefreshToken;
+import com.pragma.usuarios.infrastructure.output.jpa.entity.RefreshTokenEntity;
+import com.pragma.usuarios.infrastructure.output.jpa.mapper.RefreshTokenEntityMapper;
+import com.pragma.usuarios.infrastructure.output.jpa.repository.IRefreshTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenJpaAdapterTest {
+
+    private static final String TOKEN_HASH = "hash";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private IRefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private RefreshTokenEntityMapper refreshTokenEntityMapper;
+
+    @InjectMocks
+    private RefreshTokenJpaAdapter refreshTokenJpaAdapter;
+
+    @Test
+    @DisplayName("Should save the mapped entity")
+    void shouldSaveMappedEntity() {
+        RefreshToken refreshToken = RefreshToken.builder().tokenHash(TOKEN_HASH).build();
+        RefreshTokenEntity entity = RefreshTokenEntity.builder().tokenHash(TOKEN_HASH).build();
+        when(refreshTokenEntityMapper.toEntity(refreshToken)).thenReturn(entity);
+
+        refreshTokenJpaAdapter.save(refreshToken);
+
+        verify(refreshTokenRepository).save(entity);
+    }
+
+    @Test
+    @DisplayName("Should find a token by its hash")
+    void shouldFindByTokenHash() {
+        RefreshTokenEntity entity = RefreshTokenEntity.builder().tokenHash(TOKEN_HASH).build();
+        RefreshToken refreshToken = RefreshToken.builder().tokenHash(TOKEN_HASH).build();
+        when(refreshTokenRepository.findByTokenHash(TOKEN_HASH)).thenReturn(Optional.of(entity));
+        when(refreshTokenEntityMapper.toModel(entity)).thenReturn(refreshToken);
+
+        assertThat(refreshTokenJpaAdapter.findByTokenHash(TOKEN_HASH)).containsSame(refreshToken);
+    }
+
+    @Test
+    @DisplayName("Should report whether the conditional update marked the token")
+    void shouldReportWhetherTokenWasMarked() {
+        when(refreshTokenRepository.markUsed(TOKEN_HASH, NOW)).thenReturn(1, 0);
+
+        assertThat(refreshTokenJpaAdapter.markUsed(TOKEN_HASH, NOW)).isTrue();
+        assertThat(refreshTokenJpaAdapter.markUsed(TOKEN_HASH, NOW)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should revoke the family and purge expired tokens through the repository")
+    void shouldRevokeFamilyAndPurge() {
+        when(refreshTokenRepository.deleteExpired(NOW)).thenReturn(3);
+
+        refreshTokenJpaAdapter.revokeFamily("family-1", NOW);
+
+        verify(refreshTokenRepository).revokeFamily("family-1", NOW);
+        assertThat(refreshTokenJpaAdapter.deleteExpired(NOW)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,163 @@
+package com.pragma.usuarios.infrastructure.output.jpa.adapter;
+
+import com.pragma.usuarios.domain.model.TokenClaims;
+import com.pragma.usuarios.infrastructure.output.jpa.entity.RevokedTokenEntity;
+import com.pragma.usuarios.infrastructure.output.jpa.repository.IRevokedTokenRepository;
+import com.pragma.usuarios.infrastructure.output.jpa.repository.IUserRepository;
+import com.pragma.usuarios.infrastructure.output.security.TokenDenylist;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationJpaAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private IRevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private IUserRepository userRepository;
+
+    private TokenDenylist denylist;
+    private TokenRevocationJpaAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        denylist = new TokenDenylist();
+        adapter = new TokenRevocationJpaAdapter(revokedTokenRepository, userRepository, denylist,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static TokenClaims claims(String tokenId, Long userId, Integer tokenVersion) {
+        return TokenClaims.builder()
+                .tokenId(tokenId)
+                .userId(userId)
+                .tokenVersion(tokenVersion)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should persist a revoked token and deny it immediately")
+    void shouldPersistRevokedTokenAndDenyIt() {
+        adapter.revokeToken("jti-1", NOW.plusSeconds(600));
+
+        verify(revokedTokenRepository).insertIfAbsent("jti-1", NOW.plusSeconds(600));
+        verifyNoMoreInteractions(revokedTokenRepository);
+        assertThat(adapter.isRevoked(claims("jti-1", 1L, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should accept a token revoked twice")
+    void shouldAcceptTokenRevokedTwice() {
+        when(revokedTokenRepository.insertIfAbsent("jti-1", NOW.plusSeconds(600))).thenReturn(1, 0);
+
+        adapter.revokeToken("jti-1", NOW.plusSeconds(600));
+        adapter.revokeToken("jti-1", NOW.plusSeconds(600));
+
+        verify(revokedTokenRepository, times(2)).insertIfAbsent("jti-1", NOW.plusSeconds(600));
+        assertThat(adapter.isRevoked(claims("jti-1", 1L, 0))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should treat tokens without a version as version 0")
+    void shouldTreatTokensWithoutVersionAsVersionZero() {
+        adapter.revokeTokensBefore(1L, 1);
+
+        assertThat(adapter.isRevoked(claims(null, 1L, null))).isTrue();
+        assertThat(adapter.isRevoked(claims("jti-2", 1L, 1))).isFalse();
+        verifyNoInteractions(userRepository);
+    }
+
+    private static RevokedTokenEntity revoked(String tokenId, Instant revokedAt) {
+        return RevokedTokenEntity.builder()
+                .tokenId(tokenId)
+                .expiresAt(NOW.plusSeconds(60))
+                .revokedAt(revokedAt)
+                .build();
+    }
+
+    private static IUserRepository.TokenVersionView signedOut(Long userId, int tokenVersion, Instant updatedAt) {
+        IUserRepository.TokenVersionView view = mock(IUserRepository.TokenVersionView.class);
+        when(view.getId()).thenReturn(userId);
+        when(view.getTokenVersion()).thenReturn(tokenVersion);
+        when(view.getTokenVersionUpdatedAt()).thenReturn(updatedAt);
+        return view;
+    }
+
+    @Test
+    @DisplayName("Should merge revocations made on other instances")
+    void shouldMergeRevocationsFromDatabase() {
+        IUserRepository.TokenVersionView user = signedOut(7L, 2, NOW.minusSeconds(5));
+        when(revokedTokenRepository.findAllByExpiresAtAfter(NOW))
+                .thenReturn(List.of(revoked("remote-jti", NOW.minusSeconds(5))));
+        when(userRepository.findSignedOutTokenVersions()).thenReturn(List.of(user));
+        denylist.revokeToken("local-jti", NOW.plusSeconds(60));
+
+        adapter.synchronize();
+
+        verify(revokedTokenRepository, never()).deleteExpired(any());
+        assertThat(adapter.isRevoked(claims("remote-jti", 1L, 0))).isTrue();
+        assertThat(adapter.isRevoked(claims("local-jti", 1L, 0))).isTrue();
+        assertThat(adapter.isRevoked(claims(null, 7L, 1))).isTrue();
+        assertThat(adapter.isRevoked(claims(null, 7L, 2))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should only read rows written since the last sync")
+    void shouldOnlyReadRowsWrittenSinceLastSync() {
+        Instant firstRevokedAt = NOW.minusSeconds(30);
+        Instant firstSignedOutAt = NOW.minusSeconds(20);
+        IUserRepository.TokenVersionView firstUser = signedOut(7L, 1, firstSignedOutAt);
+        IUserRepository.TokenVersionView secondUser = signedOut(8L, 3, NOW);
+        when(revokedTokenRepository.findAllByExpiresAtAfter(NOW))
+                .thenReturn(List.of(revoked("old-jti", firstRevokedAt)));
+        when(userRepository.findSignedOutTokenVersions()).thenReturn(List.of(firstUser));
+        adapter.synchronize();
+
+        when(revokedTokenRepository.findAllByRevokedAtAfterAndExpiresAtAfter(
+                firstRevokedAt.minus(TokenRevocationJpaAdapter.SYNC_OVERLAP), NOW))
+                .thenReturn(List.of(revoked("new-jti", NOW)));
+        when(userRepository.findSignedOutTokenVersionsAfter(
+                firstSignedOutAt.minus(TokenRevocationJpaAdapter.SYNC_OVERLAP)))
+                .thenReturn(List.of(secondUser));
+        adapter.synchronize();
+
+        when(revokedTokenRepository.findAllByRevokedAtAfterAndExpiresAtAfter(
+                NOW.minus(TokenRevocationJpaAdapter.SYNC_OVERLAP), NOW)).thenReturn(List.of());
+        when(userRepository.findSignedOutTokenVersionsAfter(NOW.minus(TokenRevocationJpaAdapter.SYNC_OVERLAP)))
+                .thenReturn(List.of());
+        adapter.synchronize();
+
+        verify(revokedTokenRepository).findAllByExpiresAtAfter(NOW);
+        verify(userRepository).findSignedOutTokenVersions();
+        verify(userRepository, times(2)).findSignedOutTokenVersionsAfter(any());
+        assertThat(adapter.isRevoked(claims("new-jti", 1L, 0))).isTrue();
+        assertThat(adapter.isRevoked(claims(null, 8L, 2))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should purge expired revocations apart from the sync")
+    void shouldPurgeExpiredRevocations() {
+        denylist.revokeToken("expired-jti", NOW.minusSeconds(1));
+
+        adapter.purgeExpired();
+
+        verify(revokedTokenRepository).deleteExpired(NOW);
+        verifyNoMoreInteractions(revokedTokenRepository);
+        verifyNoInteractions(userRepository);
+        assertThat(denylist.revokedTokenCount()).isZero();
+    }
+}
@@ -8,6 +8,7 @@ import com.pragma.usuarios.infrastructure.output.jpa.entity.RoleEntity;
 import com.pragma.usuarios.infrastructure.output.jpa.entity.UserEntity;
 import com.pragma.usuarios.infrastructure.output.jpa.mapper.UserEntityMapper;
 import com.pragma.usuarios.infrastructure.output.jpa.repository.ICredentialRepository;
+import com.pragma.usuarios.infrastructure.output.jpa.repository.ICredentialRepository.UserAccountView;
 import com.pragma.usuarios.infrastructure.output.jpa.repository.IEmployeeRestaurantRepository;
 import com.pragma.usuarios.infrastructure.output.jpa.repository.IUserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -142,29 +144,65 @@ class UserJpaAdapterTest {
         @Test
         @DisplayName("Should find user by id when exists")
         void shouldFindUserByIdWhenExists() {
-            when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userEntity));
-            when(credentialRepository.findByUserId(USER_ID)).thenReturn(Optional.of(credentialEntity));
-            when(employeeRestaurantRepository.findByUserId(USER_ID)).thenReturn(Optional.of(employeeRestaurantEntity));
-            when(userEntityMapper.toModel(userEntity)).thenReturn(mappedUser);
+            UserAccountView account = mock(UserAccountView.class);
+            mappedUser.setEmail(USER_EMAIL);
+            mappedUser.setRestaurantId(RESTAURANT_ID);
+            when(credentialRepository.findAccountByUserId(USER_ID)).thenReturn(Optional.of(account));
+            when(userEntityMapper.toModel(account)).thenReturn(mappedUser);
 
             Optional<User> result = userJpaAdapter.findById(USER_ID);
 
             assertTrue(result.isPresent());
             assertEquals(USER_ID, result.get().getId());
             assertEquals(USER_EMAIL, result.get().getEmail());
-            verify(userRepository).findById(USER_ID);
+            assertEquals(RESTAURANT_ID, result.get().getRestaurantId());
+        }
+
+        @Test
+        @DisplayName("Should read a user by id through the account query only")
+        void shouldReadUserByIdThroughAccountQueryOnly() {
+            UserAccountView account = mock(UserAccountView.class);
+            when(credentialRepository.findAccountByUserId(USER_ID)).thenReturn(Optional.of(account));
+            when(userEntityMapper.toModel(account)).thenReturn(mappedUser);
+
+            userJpaAdapter.findById(USER_ID);
+
+            verify(credentialRepository, times(1)).findAccountByUserId(USER_ID);
+            verifyNoMoreInteractions(credentialRepository);
+            verifyNoInteractions(userRepository, employeeRestaurantRepository);
         }
 
         @Test
         @DisplayName("Should return empty when user not found by id")
         void shouldReturnEmptyWhenUserNotFoundById() {
-            when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
+            when(credentialRepository.findAccountByUserId(USER_ID)).thenReturn(Optional.empty());
 
             Optional<User> result = userJpaAdapter.findById(USER_ID);
 
             assertTrue(result.isEmpty());
-            verify(userRepository).findById(USER_ID);
-            verify(userEntityMapper, never()).toModel(any());
+            verify(credentialRepository).findAccountByUserId(USER_ID);
+            verify(userEntityMapper, never()).toModel(any(UserAccountView.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Find All By Ids Tests")
+    class FindAllByIdsTests {
+
+        @Test
+        @DisplayName("Should read a batch of users through the accounts query only")
+        void shouldReadBatchThroughAccountsQueryOnly() {
+            List<Long> ids = List.of(USER_ID, 2L);
+            UserAccountView account = mock(UserAccountView.class);
+            when(credentialRepository.findAccountsByUserIds(ids)).thenReturn(List.of(account));
+            when(userEntityMapper.toModel(account)).thenReturn(mappedUser);
+
+            List<User> result = userJpaAdapter.findAllByIds(ids);
+
+            assertEquals(List.of(mappedUser), result);
+            verify(credentialRepository, times(1)).findAccountsByUserIds(ids);
+            verifyNoMoreInteractions(credentialRepository);
+            verifyNoInteractions(userRepository, employeeRestaurantRepository);
         }
     }
 
@@ -175,26 +213,43 @@ class UserJpaAdapterTest {
         @Test
         @DisplayName("Should find user by email when exists")
         void shouldFindUserByEmailWhenExists() {
-            when(credentialRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.of(credentialEntity));
-            when(employeeRestaurantRepository.findByUserId(USER_ID)).thenReturn(Optional.of(employeeRestaurantEntity));
-            when(userEntityMapper.toModel(userEntity)).thenReturn(mappedUser);
+            UserAccountView account = mock(UserAccountView.class);
+            mappedUser.setEmail(USER_EMAIL);
+            mappedUser.setPassword(USER_PASSWORD);
+            mappedUser.setRestaurantId(RESTAURANT_ID);
+            when(credentialRepository.findAccountByEmail(USER_EMAIL)).thenReturn(Optional.of(account));
+            when(userEntityMapper.toModel(account)).thenReturn(mappedUser);
 
             Optional<User> result = userJpaAdapter.findByEmail(USER_EMAIL);
 
             assertTrue(result.isPresent());
             assertEquals(USER_EMAIL, result.get().getEmail());
-            verify(credentialRepository).findByEmail(USER_EMAIL);
+            assertEquals(RESTAURANT_ID, result.get().getRestaurantId());
+        }
+
+        @Test
+        @DisplayName("Should load a login through the account query only")
+        void shouldLoadLoginThroughAccountQueryOnly() {
+            UserAccountView account = mock(UserAccountView.class);
+            when(credentialRepository.findAccountByEmail(USER_EMAIL)).thenReturn(Optional.of(account));
+            when(userEntityMapper.toModel(account)).thenReturn(mappedUser);
+
+            userJpaAdapter.findByEmail(USER_EMAIL);
+
+            verify(credentialRepository, times(1)).findAccountByEmail(USER_EMAIL);
+            verifyNoMoreInteractions(credentialRepository);
+            verifyNoInteractions(userRepository, employeeRestaurantRepository);
         }
 
         @Test
         @DisplayName("Should return empty when user not found by email")
         void shouldReturnEmptyWhenUserNotFoundByEmail() {
-            when(credentialRepository.findByEmail(USER_EMAIL)).thenReturn(Optional.empty());
+            when(credentialRepository.findAccountByEmail(USER_EMAIL)).thenReturn(Optional.empty());
 
             Optional<User> result = userJpaAdapter.findByEmail(USER_EMAIL);
 
             assertTrue(result.isEmpty());
-            verify(credentialRepository).findByEmail(USER_EMAIL);
+            verify(credentialRepository).findAccountByEmail(USER_EMAIL);
         }
     }
 
@@ -283,4 +338,44 @@ class UserJpaAdapterTest {
             verify(userRepository).existsByIdentityDocument(USER_DOCUMENT);
         }
     }
+
+    @Nested
+    @DisplayName("Increment Token Version Tests")
+    class IncrementTokenVersionTests {
+
+        @Test
+        @DisplayName("Should return the new token version")
+        void shouldReturnNewTokenVersion() {
+            when(userRepository.incrementTokenVersion(USER_ID)).thenReturn(1);
+            when(userRepository.findTokenVersionById(USER_ID)).thenReturn(Optional.of(4));
+
+            Optional<Integer> result = userJpaAdapter.incrementTokenVersion(USER_ID);
+
+            assertEquals(Optional.of(4), result);
+        }
+
+        @Test
+        @DisplayName("Should return empty when user does not exist")
+        void shouldReturnEmptyWhenUserDoesNotExist() {
+            when(userRepository.incrementTokenVersion(USER_ID)).thenReturn(0);
+
+            Optional<Integer> result = userJpaAdapter.incrementTokenVersion(USER_ID);
+
+            assertTrue(result.isEmpty());
+            verify(userRepository, never()).findTokenVersionById(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Update Password Tests")
+    class UpdatePasswordTests {
+
+        @Test
+        @DisplayName("Should replace the stored hash of the user's credential")
+        void shouldReplaceStoredHash() {
+            userJpaAdapter.updatePassword(USER_ID, "{argon2}$argon2id$v=19$new");
+
+            verify(credentialRepository).updatePassword(USER_ID, "{argon2}$argon2id$v=19$new");
+        }
+    }
 }
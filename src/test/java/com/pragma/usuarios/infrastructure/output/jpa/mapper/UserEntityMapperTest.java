@@ -4,17 +4,21 @@ import com.pragma.usuarios.domain.model.Role;
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.infrastructure.output.jpa.entity.RoleEntity;
 import com.pragma.usuarios.infrastructure.output.jpa.entity.UserEntity;
+import com.pragma.usuarios.infrastructure.output.jpa.repository.ICredentialRepository.UserAccountView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @DisplayName("UserEntityMapper Tests")
 class UserEntityMapperTest {
@@ -103,10 +107,48 @@ class UserEntityMapperTest {
         assertEquals(ROLE_DESCRIPTION, user.getRole().getDescription());
     }
 
+    @Test
+    @DisplayName("Should map a user account projection to User model")
+    void shouldMapAccountViewToModel() {
+        UserAccountView account = mock(UserAccountView.class);
+        when(account.getId()).thenReturn(USER_ID);
+        when(account.getFirstName()).thenReturn(FIRST_NAME);
+        when(account.getLastName()).thenReturn(LAST_NAME);
+        when(account.getIdentityDocument()).thenReturn(IDENTITY_DOCUMENT);
+        when(account.getPhone()).thenReturn(PHONE);
+        when(account.getBirthDate()).thenReturn(BIRTH_DATE);
+        when(account.getTokenVersion()).thenReturn(2);
+        when(account.getUpdatedAt()).thenReturn(Instant.parse("2026-03-01T10:30:00Z"));
+        when(account.getRoleId()).thenReturn(ROLE_ID);
+        when(account.getRoleName()).thenReturn(ROLE_NAME);
+        when(account.getRoleDescription()).thenReturn(ROLE_DESCRIPTION);
+        when(account.getEmail()).thenReturn("john@example.com");
+        when(account.getPassword()).thenReturn("{bcrypt}hash");
+        when(account.getRestaurantId()).thenReturn(77L);
+
+        User user = userEntityMapper.toModel(account);
+
+        assertEquals(USER_ID, user.getId());
+        assertEquals(FIRST_NAME, user.getFirstName());
+        assertEquals(LAST_NAME, user.getLastName());
+        assertEquals(IDENTITY_DOCUMENT, user.getIdentityDocument());
+        assertEquals(PHONE, user.getPhone());
+        assertEquals(BIRTH_DATE, user.getBirthDate());
+        assertEquals(2, user.getTokenVersion());
+        assertEquals(Instant.parse("2026-03-01T10:30:00Z"), user.getUpdatedAt());
+        assertEquals("john@example.com", user.getEmail());
+        assertEquals("{bcrypt}hash", user.getPassword());
+        assertEquals(77L, user.getRestaurantId());
+        assertEquals(ROLE_ID, user.getRole().getId());
+        assertEquals(ROLE_NAME, user.getRole().getName());
+        assertEquals(ROLE_DESCRIPTION, user.getRole().getDescription());
+    }
+
     @Test
     @DisplayName("Should return null when source is null")
     void shouldReturnNullWhenSourceIsNull() {
         assertNull(userEntityMapper.toEntity(null));
-        assertNull(userEntityMapper.toModel(null));
+        assertNull(userEntityMapper.toModel((UserEntity) null));
+        assertNull(userEntityMapper.toModel((UserAccountView) null));
     }
 }
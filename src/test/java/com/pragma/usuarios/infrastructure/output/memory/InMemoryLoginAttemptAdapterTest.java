@@ -0,0 +1,233 @@
+package com.pragma.usuarios.infrastructure.output.memory;
+
+import com.pragma.usuarios.infrastructure.configuration.LoginAttemptProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryLoginAttemptAdapterTest {
+
+    private static final String EMAIL = "test@example.com";
+    private static final int MAX_FAILURES = 5;
+    private static final Duration LOCK_DURATION = Duration.ofMinutes(15);
+    private static final Duration MAX_LOCK_DURATION = Duration.ofHours(1);
+    private static final Duration FAILURE_WINDOW = Duration.ofMinutes(10);
+    private static final long MAXIMUM_SIZE = 10_000;
+
+    private AtomicLong nanos;
+    private InMemoryLoginAttemptAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        LoginAttemptProperties properties = new LoginAttemptProperties();
+        properties.setMaxFailures(MAX_FAILURES);
+        properties.setLockDuration(LOCK_DURATION);
+        properties.setMaxLockDuration(MAX_LOCK_DURATION);
+        properties.setFailureWindow(FAILURE_WINDOW);
+        properties.setMaximumSize(MAXIMUM_SIZE);
+        nanos = new AtomicLong();
+        adapter = new InMemoryLoginAttemptAdapter(properties, nanos::get);
+    }
+
+    private void failTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            adapter.recordFailure(EMAIL);
+        }
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    @DisplayName("Should lock the account on the last allowed failure")
+    void shouldLockOnLastAllowedFailure() {
+        failTimes(MAX_FAILURES - 1);
+
+        assertThat(adapter.isLocked(EMAIL)).isFalse();
+        assertThat(adapter.recordFailure(EMAIL)).isTrue();
+        assertThat(adapter.isLocked(EMAIL)).isTrue();
+        assertThat(adapter.isLocked("other@example.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reset failed attempts after a successful login")
+    void shouldResetAfterSuccess() {
+        failTimes(MAX_FAILURES - 1);
+
+        adapter.recordSuccess(EMAIL);
+
+        assertThat(adapter.recordFailure(EMAIL)).isFalse();
+        assertThat(adapter.isLocked(EMAIL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should unlock the account once the lock duration has passed")
+    void shouldUnlockAfterLockDuration() {
+        failTimes(MAX_FAILURES);
+
+        advance(LOCK_DURATION.minusSeconds(1));
+        assertThat(adapter.isLocked(EMAIL)).isTrue();
+
+        advance(Duration.ofSeconds(1));
+        assertThat(adapter.isLocked(EMAIL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should double the lock for every failure after the first lock, up to the maximum")
+    void shouldDoubleLockForEveryFurtherFailure() {
+        failTimes(MAX_FAILURES);
+        advance(LOCK_DURATION);
+
+        assertThat(adapter.recordFailure(EMAIL)).isTrue();
+        advance(LOCK_DURATION.multipliedBy(2).minusSeconds(1));
+        assertThat(adapter.isLocked(EMAIL)).isTrue();
+        advance(Duration.ofSeconds(1));
+        assertThat(adapter.isLocked(EMAIL)).isFalse();
+
+        // 15 minutes doubled five times is past the one hour cap
+        failTimes(4);
+        advance(MAX_LOCK_DURATION.minusSeconds(1));
+        assertThat(adapter.isLocked(EMAIL)).isTrue();
+        advance(Duration.ofSeconds(1));
+        assertThat(adapter.isLocked(EMAIL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should forget a lock after a quiet failure window")
+    void shouldForgetLockAfterQuietWindow() {
+        failTimes(MAX_FAILURES);
+        advance(LOCK_DURATION.plus(FAILURE_WINDOW));
+
+        assertThat(adapter.recordFailure(EMAIL)).isFalse();
+        assertThat(adapter.failureCount(EMAIL)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should forget failures below the limit one window after the last of them")
+    void shouldForgetFailuresAfterWindow() {
+        failTimes(MAX_FAILURES - 1);
+        advance(FAILURE_WINDOW.minusSeconds(1));
+        adapter.recordFailure(EMAIL);
+        assertThat(adapter.isLocked(EMAIL)).isTrue();
+
+        adapter.recordSuccess(EMAIL);
+        failTimes(MAX_FAILURES - 1);
+        advance(FAILURE_WINDOW);
+
+        assertThat(adapter.recordFailure(EMAIL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should drop expired entries when swept")
+    void shouldDropExpiredEntriesWhenSwept() {
+        for (int i = 0; i < 100; i++) {
+            adapter.recordFailure("user" + i + "@example.com");
+        }
+        advance(FAILURE_WINDOW);
+
+        adapter.purgeExpired();
+
+        assertThat(adapter.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stay within its maximum size for millions of distinct emails")
+    void shouldStayBoundedForDistinctEmails() {
+        for (int i = 0; i < 2_000_000; i++) {
+            adapter.recordFailure("random" + i + "@example.com");
+        }
+
+        adapter.purgeExpired();
+
+        assertThat(adapter.estimatedSize()).isLessThanOrEqualTo(MAXIMUM_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should count every failure recorded in parallel and lock exactly once")
+    void shouldCountParallelFailuresExactly() throws Exception {
+        int threads = 8;
+        int failuresPerThread = 5_000;
+        LoginAttemptProperties properties = new LoginAttemptProperties();
+        properties.setMaxFailures(threads * failuresPerThread);
+        adapter = new InMemoryLoginAttemptAdapter(properties, nanos::get);
+
+        List<Integer> locks = inParallel(threads, () -> {
+            int locked = 0;
+            for (int i = 0; i < failuresPerThread; i++) {
+                if (adapter.recordFailure(EMAIL)) {
+                    locked++;
+                }
+            }
+            return locked;
+        });
+
+        assertThat(adapter.failureCount(EMAIL)).isEqualTo(threads * failuresPerThread);
+        assertThat(locks.stream().mapToInt(Integer::intValue).sum()).isEqualTo(1);
+        assertThat(adapter.isLocked(EMAIL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not lose failures to concurrent sweeps")
+    void shouldNotLoseFailuresToConcurrentSweeps() throws Exception {
+        int threads = 8;
+        int failuresPerThread = 5_000;
+        AtomicBoolean done = new AtomicBoolean();
+        Thread sweeper = new Thread(() -> {
+            while (!done.get()) {
+                adapter.purgeExpired();
+            }
+        });
+        sweeper.start();
+
+        try {
+            inParallel(threads, () -> {
+                for (int i = 0; i < failuresPerThread; i++) {
+                    adapter.recordFailure(EMAIL);
+                }
+                return null;
+            });
+        } finally {
+            done.set(true);
+            sweeper.join();
+        }
+
+        assertThat(adapter.failureCount(EMAIL)).isEqualTo(threads * failuresPerThread);
+    }
+
+    private <T> List<T> inParallel(int threads, Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.pragma.usuarios.infrastructure.output.memory;
+
+import com.pragma.usuarios.domain.model.RefreshToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRefreshTokenAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private InMemoryRefreshTokenAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new InMemoryRefreshTokenAdapter();
+    }
+
+    private RefreshToken token(String hash, String familyId, Instant expiresAt) {
+        return RefreshToken.builder()
+                .tokenHash(hash)
+                .familyId(familyId)
+                .userId(1L)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should mark a token used only once")
+    void shouldMarkTokenUsedOnlyOnce() {
+        adapter.save(token("h1", "f1", NOW.plusSeconds(60)));
+
+        assertThat(adapter.markUsed("h1", NOW)).isTrue();
+        assertThat(adapter.markUsed("h1", NOW)).isFalse();
+        assertThat(adapter.markUsed("unknown", NOW)).isFalse();
+        assertThat(adapter.findByTokenHash("h1")).get().extracting(RefreshToken::getUsedAt).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("Should revoke only the tokens of the given family")
+    void shouldRevokeOnlyGivenFamily() {
+        adapter.save(token("h1", "f1", NOW.plusSeconds(60)));
+        adapter.save(token("h2", "f1", NOW.plusSeconds(60)));
+        adapter.save(token("h3", "f2", NOW.plusSeconds(60)));
+
+        adapter.revokeFamily("f1", NOW);
+
+        assertThat(adapter.findByTokenHash("h1")).get().extracting(RefreshToken::isUsed).isEqualTo(true);
+        assertThat(adapter.findByTokenHash("h2")).get().extracting(RefreshToken::isUsed).isEqualTo(true);
+        assertThat(adapter.findByTokenHash("h3")).get().extracting(RefreshToken::isUsed).isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("Should revoke every token of the given user")
+    void shouldRevokeEveryTokenOfUser() {
+        adapter.save(token("h1", "f1", NOW.plusSeconds(60)));
+        adapter.save(token("h2", "f2", NOW.plusSeconds(60)));
+        RefreshToken otherUser = token("h3", "f3", NOW.plusSeconds(60));
+        otherUser.setUserId(2L);
+        adapter.save(otherUser);
+
+        adapter.revokeAllForUser(1L, NOW);
+
+        assertThat(adapter.findByTokenHash("h1")).get().extracting(RefreshToken::isUsed).isEqualTo(true);
+        assertThat(adapter.findByTokenHash("h2")).get().extracting(RefreshToken::isUsed).isEqualTo(true);
+        assertThat(adapter.findByTokenHash("h3")).get().extracting(RefreshToken::isUsed).isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("Should delete expired tokens")
+    void shouldDeleteExpiredTokens() {
+        adapter.save(token("h1", "f1", NOW.minusSeconds(1)));
+        adapter.save(token("h2", "f1", NOW.plusSeconds(60)));
+
+        assertThat(adapter.deleteExpired(NOW)).isEqualTo(1);
+        assertThat(adapter.findByTokenHash("h1")).isEmpty();
+        assertThat(adapter.findByTokenHash("h2")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should not expose the stored instance")
+    void shouldNotExposeStoredInstance() {
+        adapter.save(token("h1", "f1", NOW.plusSeconds(60)));
+
+        adapter.findByTokenHash("h1").orElseThrow().setUsedAt(NOW);
+
+        assertThat(adapter.markUsed("h1", NOW)).isTrue();
+    }
+}
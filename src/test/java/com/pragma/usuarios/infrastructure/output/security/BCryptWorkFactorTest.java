@@ -0,0 +1,114 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BCryptWorkFactorTest {
+
+    private static final Duration TARGET = Duration.ofMillis(250);
+
+    // 60 ms at strength 10, doubling with every extra round
+    private static Duration hashTime(int strength) {
+        return Duration.ofMillis(60L << (strength - 10));
+    }
+
+    @Nested
+    @DisplayName("Calibrate Tests")
+    class CalibrateTests {
+
+        @Test
+        @DisplayName("Should pick the highest strength within the target")
+        void shouldPickHighestStrengthWithinTarget() {
+            BCryptWorkFactor workFactor = BCryptWorkFactor.calibrate(TARGET, 10, 16, BCryptWorkFactorTest::hashTime);
+
+            assertThat(workFactor.getStrength()).isEqualTo(12);
+            assertThat(workFactor.getHashTime()).isEqualTo(Duration.ofMillis(240));
+        }
+
+        @Test
+        @DisplayName("Should not time a strength that is predicted to exceed the target")
+        void shouldNotTimeStrengthPredictedToExceedTarget() {
+            List<Integer> timed = new ArrayList<>();
+            IntFunction<Duration> recording = strength -> {
+                timed.add(strength);
+                return hashTime(strength);
+            };
+
+            BCryptWorkFactor.calibrate(TARGET, 10, 16, recording);
+
+            assertThat(timed).containsExactly(10, 11, 12);
+        }
+
+        @Test
+        @DisplayName("Should keep the min strength when it is already slower than the target")
+        void shouldKeepMinStrengthWhenSlowerThanTarget() {
+            BCryptWorkFactor workFactor = BCryptWorkFactor.calibrate(Duration.ofMillis(30), 10, 16,
+                    BCryptWorkFactorTest::hashTime);
+
+            assertThat(workFactor.getStrength()).isEqualTo(10);
+            assertThat(workFactor.getHashTime()).isEqualTo(Duration.ofMillis(60));
+        }
+
+        @Test
+        @DisplayName("Should stop at the max strength")
+        void shouldStopAtMaxStrength() {
+            BCryptWorkFactor workFactor = BCryptWorkFactor.calibrate(Duration.ofSeconds(10), 10, 11,
+                    BCryptWorkFactorTest::hashTime);
+
+            assertThat(workFactor.getStrength()).isEqualTo(11);
+        }
+
+        @Test
+        @DisplayName("Should reject a min strength above the max strength")
+        void shouldRejectMinAboveMax() {
+            assertThatThrownBy(() -> BCryptWorkFactor.calibrate(TARGET, 12, 10, BCryptWorkFactorTest::hashTime))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a strength BCrypt does not support")
+    void shouldRejectUnsupportedStrength() {
+        assertThatThrownBy(() -> new BCryptWorkFactor(3, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BCryptWorkFactor(32, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should use a fixed strength without timing a hash")
+    void shouldUseFixedStrengthWithoutTimingHash() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        BCryptWorkFactor workFactor = BCryptWorkFactor.fixed(12);
+        workFactor.bindTo(registry);
+
+        assertThat(workFactor.getStrength()).isEqualTo(12);
+        assertThat(workFactor.getHashTime()).isNull();
+        assertThat(registry.get("auth.password.bcrypt.strength").gauge().value()).isEqualTo(12);
+        assertThat(registry.find("auth.password.bcrypt.hash.time").timeGauge()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should publish the strength and hash time as gauges")
+    void shouldPublishStrengthAndHashTime() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new BCryptWorkFactor(12, Duration.ofMillis(240)).bindTo(registry);
+
+        assertThat(registry.get("auth.password.bcrypt.strength").gauge().value()).isEqualTo(12);
+        assertThat(registry.get("auth.password.bcrypt.hash.time").timeGauge().value(TimeUnit.MILLISECONDS))
+                .isEqualTo(240);
+    }
+}
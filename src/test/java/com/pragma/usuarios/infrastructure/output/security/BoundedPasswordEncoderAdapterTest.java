@@ -0,0 +1,114 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import com.pragma.usuarios.domain.exception.PasswordHashingBusyException;
+import com.pragma.usuarios.domain.spi.IPasswordEncoderPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedPasswordEncoderAdapterTest {
+
+    private static final String RAW_PASSWORD = "password123";
+    private static final String ENCODED_PASSWORD = "$2a$10$encodedPasswordHash";
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(2);
+
+    @Mock
+    private IPasswordEncoderPort delegate;
+
+    private SimpleMeterRegistry registry;
+    private BoundedPasswordEncoderAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        adapter = new BoundedPasswordEncoderAdapter(delegate, 1, 1, RETRY_AFTER, registry);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should hash on a pool thread and return the delegate result")
+    void shouldHashOnPoolThread() {
+        when(delegate.encode(RAW_PASSWORD)).thenAnswer(_ -> Thread.currentThread().getName());
+        when(delegate.matches(RAW_PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+
+        assertThat(adapter.encode(RAW_PASSWORD)).startsWith("password-hash-");
+        assertThat(adapter.matches(RAW_PASSWORD, ENCODED_PASSWORD)).isTrue();
+        assertThat(registry.get("auth.password.hash.duration").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("auth.password.hash.duration").tag("operation", "matches").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("auth.password.hash.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should answer upgrade checks on the calling thread")
+    void shouldAnswerUpgradeChecksOnCallingThread() {
+        when(delegate.upgradeEncoding(ENCODED_PASSWORD)).thenReturn(true);
+
+        assertThat(adapter.upgradeEncoding(ENCODED_PASSWORD)).isTrue();
+        assertThat(registry.get("auth.password.hash.wait").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should rethrow delegate failures unchanged")
+    void shouldRethrowDelegateFailures() {
+        when(delegate.encode(RAW_PASSWORD)).thenThrow(new IllegalArgumentException("bad input"));
+
+        assertThatThrownBy(() -> adapter.encode(RAW_PASSWORD))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bad input");
+    }
+
+    @Test
+    @DisplayName("Should fail fast once the thread and the queue are taken")
+    void shouldFailFastWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode(RAW_PASSWORD)).thenAnswer(_ -> {
+            release.await(5, TimeUnit.SECONDS);
+            return ENCODED_PASSWORD;
+        });
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> adapter.encode(RAW_PASSWORD));
+        waitUntil(() -> registry.get("auth.password.hash.active").gauge().value() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> adapter.encode(RAW_PASSWORD));
+        waitUntil(() -> registry.get("auth.password.hash.queue").gauge().value() == 1);
+
+        assertThatThrownBy(() -> adapter.encode(RAW_PASSWORD))
+                .isInstanceOf(PasswordHashingBusyException.class)
+                .satisfies(ex -> assertThat(((PasswordHashingBusyException) ex).getRetryAfter())
+                        .isEqualTo(RETRY_AFTER));
+        assertThat(registry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo(ENCODED_PASSWORD);
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo(ENCODED_PASSWORD);
+    }
+}
@@ -0,0 +1,142 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import com.pragma.usuarios.domain.model.IssuedToken;
+import com.pragma.usuarios.domain.model.TokenClaims;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.spi.IJwtPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtAdapterTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private IJwtPort delegate;
+
+    private AtomicLong nanos;
+    private CachingJwtAdapter cachingJwtAdapter;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong();
+        cachingJwtAdapter = new CachingJwtAdapter(delegate, 2, Clock.fixed(NOW, ZoneOffset.UTC), nanos::get);
+    }
+
+    private TokenClaims claimsExpiringIn(Duration duration) {
+        return TokenClaims.builder()
+                .userId(1L)
+                .email("test@example.com")
+                .role("OWNER")
+                .issuedAt(NOW)
+                .expiresAt(NOW.plus(duration))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should verify a repeated token only once")
+    void shouldVerifyRepeatedTokenOnlyOnce() {
+        when(delegate.parseToken(TOKEN)).thenReturn(Optional.of(claimsExpiringIn(Duration.ofHours(1))));
+
+        Optional<TokenClaims> first = cachingJwtAdapter.parseToken(TOKEN);
+        Optional<TokenClaims> second = cachingJwtAdapter.parseToken(TOKEN);
+
+        assertThat(first).isPresent();
+        assertThat(second).containsSame(first.get());
+        verify(delegate, times(1)).parseToken(TOKEN);
+        assertThat(cachingJwtAdapter.stats().hitCount()).isEqualTo(1);
+        assertThat(cachingJwtAdapter.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache tokens that fail verification")
+    void shouldNotCacheInvalidTokens() {
+        when(delegate.parseToken(TOKEN)).thenReturn(Optional.empty());
+
+        assertThat(cachingJwtAdapter.parseToken(TOKEN)).isEmpty();
+        assertThat(cachingJwtAdapter.parseToken(TOKEN)).isEmpty();
+
+        verify(delegate, times(2)).parseToken(TOKEN);
+        assertThat(cachingJwtAdapter.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop the entry once the token expires")
+    void shouldDropEntryOnceTokenExpires() {
+        when(delegate.parseToken(TOKEN))
+                .thenReturn(Optional.of(claimsExpiringIn(Duration.ofMinutes(5))))
+                .thenReturn(Optional.empty());
+
+        assertThat(cachingJwtAdapter.parseToken(TOKEN)).isPresent();
+
+        nanos.addAndGet(Duration.ofMinutes(5).plusSeconds(1).toNanos());
+
+        assertThat(cachingJwtAdapter.parseToken(TOKEN)).isEmpty();
+        verify(delegate, times(2)).parseToken(TOKEN);
+    }
+
+    @Test
+    @DisplayName("Should evict entries beyond the maximum size")
+    void shouldEvictEntriesBeyondMaximumSize() {
+        when(delegate.parseToken(anyString())).thenReturn(Optional.of(claimsExpiringIn(Duration.ofHours(1))));
+
+        for (int i = 0; i < 10; i++) {
+            cachingJwtAdapter.parseToken(TOKEN + i);
+        }
+
+        assertThat(cachingJwtAdapter.estimatedSize()).isLessThanOrEqualTo(2);
+        assertThat(cachingJwtAdapter.stats().evictionCount()).isGreaterThanOrEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should skip the delegate for null or empty tokens")
+    void shouldSkipDelegateForNullOrEmptyTokens() {
+        assertThat(cachingJwtAdapter.parseToken(null)).isEmpty();
+        assertThat(cachingJwtAdapter.isTokenValid("")).isFalse();
+
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should serve extract methods from the cached claims")
+    void shouldServeExtractMethodsFromCachedClaims() {
+        when(delegate.parseToken(TOKEN)).thenReturn(Optional.of(claimsExpiringIn(Duration.ofHours(1))));
+
+        assertThat(cachingJwtAdapter.isTokenValid(TOKEN)).isTrue();
+        assertThat(cachingJwtAdapter.extractEmail(TOKEN)).isEqualTo("test@example.com");
+        assertThat(cachingJwtAdapter.extractRole(TOKEN)).isEqualTo("OWNER");
+        assertThat(cachingJwtAdapter.extractUserId(TOKEN)).isEqualTo(1L);
+
+        verify(delegate, times(1)).parseToken(TOKEN);
+    }
+
+    @Test
+    @DisplayName("Should cache the claims of tokens it issues")
+    void shouldCacheClaimsOfIssuedTokens() {
+        User user = new User();
+        TokenClaims claims = claimsExpiringIn(Duration.ofHours(1));
+        when(delegate.generateToken(user, null)).thenReturn(new IssuedToken(TOKEN, claims));
+
+        IssuedToken issuedToken = cachingJwtAdapter.generateToken(user);
+
+        assertThat(cachingJwtAdapter.parseToken(issuedToken.getToken())).containsSame(claims);
+        verify(delegate, never()).parseToken(anyString());
+    }
+}
@@ -0,0 +1,326 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import com.pragma.usuarios.domain.model.IssuedToken;
+import com.pragma.usuarios.domain.model.Role;
+import com.pragma.usuarios.domain.model.TokenClaims;
+import com.pragma.usuarios.domain.model.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactJwtAdapterTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-must-be-at-least-256-bits-long";
+    private static final long EXPIRATION_MS = 900000L;
+
+    private CompactJwtAdapter compactJwtAdapter;
+    private JwtAdapter jwtAdapter;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        compactJwtAdapter = new CompactJwtAdapter(SECRET, EXPIRATION_MS);
+        jwtAdapter = new JwtAdapter(SECRET, EXPIRATION_MS);
+
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setFirstName("José \"Pepe\"");
+        testUser.setLastName("Núñez\\Doe");
+        testUser.setEmail("test@example.com");
+        testUser.setRole(new Role(2L, "OWNER", "Restaurant owner"));
+    }
+
+    private String jjwtToken(Map<String, Object> claims, String subject, Instant expiration) {
+        return Jwts.builder()
+                .claims(claims)
+                .subject(subject)
+                .issuedAt(new Date())
+                .expiration(Date.from(expiration))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    // Signs any payload the way both codecs expect for SECRET, which is long enough for HS512
+    private String signedToken(String payloadJson) throws Exception {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = compactJwtAdapter.generateToken(testUser).getToken().split("\\.")[0];
+        String signingInput = header + "." + encoder.encodeToString(payloadJson.getBytes(StandardCharsets.UTF_8));
+        Mac mac = Mac.getInstance("HmacSHA512");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA512"));
+        byte[] signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + encoder.encodeToString(signature);
+    }
+
+    @Nested
+    @DisplayName("Round Trip Tests")
+    class RoundTripTests {
+
+        @Test
+        @DisplayName("Should parse its own tokens")
+        void shouldParseItsOwnTokens() {
+            IssuedToken issuedToken = compactJwtAdapter.generateToken(testUser);
+
+            Optional<TokenClaims> claims = compactJwtAdapter.parseToken(issuedToken.getToken());
+
+            assertThat(claims).isPresent();
+            assertThat(claims.get().getUserId()).isEqualTo(1L);
+            assertThat(claims.get().getEmail()).isEqualTo("test@example.com");
+            assertThat(claims.get().getRole()).isEqualTo("OWNER");
+            assertThat(claims.get().getIssuedAt()).isEqualTo(issuedToken.getClaims().getIssuedAt());
+            assertThat(claims.get().getExpiresAt()).isEqualTo(issuedToken.getClaims().getExpiresAt());
+        }
+
+        @Test
+        @DisplayName("Should serve the extract methods from a parse")
+        void shouldServeExtractMethods() {
+            String token = compactJwtAdapter.generateToken(testUser).getToken();
+
+            assertThat(compactJwtAdapter.isTokenValid(token)).isTrue();
+            assertThat(compactJwtAdapter.extractEmail(token)).isEqualTo("test@example.com");
+            assertThat(compactJwtAdapter.extractRole(token)).isEqualTo("OWNER");
+            assertThat(compactJwtAdapter.extractUserId(token)).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("Should carry the token id and version")
+        void shouldCarryTokenIdAndVersion() {
+            testUser.setTokenVersion(2);
+            IssuedToken issuedToken = compactJwtAdapter.generateToken(testUser);
+
+            TokenClaims claims = compactJwtAdapter.parseToken(issuedToken.getToken()).orElseThrow();
+
+            assertThat(claims.getTokenId()).isNotBlank().isEqualTo(issuedToken.getClaims().getTokenId());
+            assertThat(claims.getTokenVersion()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Wire Compatibility Tests")
+    class WireCompatibilityTests {
+
+        @Test
+        @DisplayName("Should use the same header as jjwt")
+        void shouldUseSameHeaderAsJjwt() {
+            String compactToken = compactJwtAdapter.generateToken(testUser).getToken();
+            String jjwtToken = jwtAdapter.generateToken(testUser).getToken();
+
+            assertThat(compactToken.substring(0, compactToken.indexOf('.')))
+                    .isEqualTo(jjwtToken.substring(0, jjwtToken.indexOf('.')));
+        }
+
+        @Test
+        @DisplayName("Should parse tokens issued by JwtAdapter")
+        void shouldParseTokensIssuedByJwtAdapter() {
+            String token = jwtAdapter.generateToken(testUser).getToken();
+
+            Optional<TokenClaims> claims = compactJwtAdapter.parseToken(token);
+
+            assertThat(claims).isPresent();
+            assertThat(claims.get().getUserId()).isEqualTo(1L);
+            assertThat(claims.get().getEmail()).isEqualTo("test@example.com");
+            assertThat(claims.get().getRole()).isEqualTo("OWNER");
+        }
+
+        @Test
+        @DisplayName("Should issue tokens JwtAdapter can parse")
+        void shouldIssueTokensJwtAdapterCanParse() {
+            String token = compactJwtAdapter.generateToken(testUser).getToken();
+
+            Optional<TokenClaims> claims = jwtAdapter.parseToken(token);
+
+            assertThat(claims).isPresent();
+            assertThat(claims.get().getUserId()).isEqualTo(1L);
+            assertThat(claims.get().getEmail()).isEqualTo("test@example.com");
+            assertThat(claims.get().getRole()).isEqualTo("OWNER");
+        }
+
+        @Test
+        @DisplayName("Should skip unknown and nested claims")
+        void shouldSkipUnknownAndNestedClaims() {
+            String token = jjwtToken(Map.of(
+                            "userId", 42L,
+                            "role", "CLIENT",
+                            "scopes", List.of("read", Map.of("nested", true)),
+                            "meta", Map.of("level", 3.5, "note", "a\"b\\c\u0001"),
+                            "active", false),
+                    "client@example.com",
+                    Instant.now().plusSeconds(600));
+
+            Optional<TokenClaims> claims = compactJwtAdapter.parseToken(token);
+
+            assertThat(claims).isPresent();
+            assertThat(claims.get().getUserId()).isEqualTo(42L);
+            assertThat(claims.get().getRole()).isEqualTo("CLIENT");
+            assertThat(claims.get().getEmail()).isEqualTo("client@example.com");
+        }
+
+        @Test
+        @DisplayName("Should resolve repeated and short or long claim names like JwtAdapter")
+        void shouldResolveRepeatedClaimNamesLikeJwtAdapter() throws Exception {
+            long exp = Instant.now().plusSeconds(600).getEpochSecond();
+            String token = signedToken("{\"rol\":\"CLIENT\",\"role\":\"ADMIN\",\"userId\":1,\"uid\":2,"
+                    + "\"tokenVersion\":3,\"tokenVersion\":4,\"sub\":\"test@example.com\",\"exp\":" + exp + "}");
+
+            TokenClaims compact = compactJwtAdapter.parseToken(token).orElseThrow();
+            TokenClaims jjwt = jwtAdapter.parseToken(token).orElseThrow();
+
+            assertThat(compact.getRole()).isEqualTo("CLIENT").isEqualTo(jjwt.getRole());
+            assertThat(compact.getUserId()).isEqualTo(2L).isEqualTo(jjwt.getUserId());
+            assertThat(compact.getTokenVersion()).isEqualTo(4).isEqualTo(jjwt.getTokenVersion());
+        }
+    }
+
+    @Nested
+    @DisplayName("Rejection Tests")
+    class RejectionTests {
+
+        @Test
+        @DisplayName("Should reject expired tokens")
+        void shouldRejectExpiredTokens() {
+            String token = compactJwtAdapter.generateToken(testUser).getToken();
+            CompactJwtAdapter later = new CompactJwtAdapter(SECRET, EXPIRATION_MS,
+                    Clock.fixed(Instant.now().plusMillis(EXPIRATION_MS).plusSeconds(5), ZoneOffset.UTC));
+
+            assertThat(later.parseToken(token)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject tokens signed with another secret")
+        void shouldRejectTokensSignedWithAnotherSecret() {
+            String token = new CompactJwtAdapter(SECRET + "-other", EXPIRATION_MS).generateToken(testUser).getToken();
+
+            assertThat(compactJwtAdapter.parseToken(token)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject tokens with a tampered payload")
+        void shouldRejectTamperedPayload() {
+            String token = compactJwtAdapter.generateToken(testUser).getToken();
+            String[] parts = token.split("\\.");
+            String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    "{\"userId\":1,\"role\":\"ADMIN\",\"sub\":\"test@example.com\",\"exp\":9999999999}"
+                            .getBytes(StandardCharsets.UTF_8));
+
+            assertThat(compactJwtAdapter.parseToken(parts[0] + "." + forged + "." + parts[2])).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject tokens with another algorithm header")
+        void shouldRejectOtherAlgorithmHeader() {
+            String token = compactJwtAdapter.generateToken(testUser).getToken();
+            String none = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    "{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+
+            assertThat(compactJwtAdapter.parseToken(none + token.substring(token.indexOf('.')))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject tokens with a claim of the wrong type")
+        void shouldRejectClaimOfWrongType() {
+            String token = jjwtToken(Map.of("userId", 1L, "role", 7), "test@example.com",
+                    Instant.now().plusSeconds(600));
+
+            assertThat(compactJwtAdapter.parseToken(token)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject tokens with a fractional token version")
+        void shouldRejectFractionalTokenVersion() {
+            String token = jjwtToken(Map.of("userId", 1L, "role", "OWNER", "tokenVersion", 1.5),
+                    "test@example.com", Instant.now().plusSeconds(600));
+
+            assertThat(compactJwtAdapter.parseToken(token)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject a signed payload with a value that is not JSON")
+        void shouldRejectSignedPayloadWithInvalidValue() throws Exception {
+            long exp = Instant.now().plusSeconds(600).getEpochSecond();
+
+            assertThat(compactJwtAdapter.parseToken(
+                    signedToken("{\"userId\":x,\"sub\":\"test@example.com\",\"exp\":" + exp + "}"))).isEmpty();
+            assertThat(compactJwtAdapter.parseToken(
+                    signedToken("{\"scopes\":[x],\"sub\":\"test@example.com\",\"exp\":" + exp + "}"))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject malformed or null tokens")
+        void shouldRejectMalformedOrNullTokens() {
+            String token = compactJwtAdapter.generateToken(testUser).getToken();
+
+            assertThat(compactJwtAdapter.parseToken(null)).isEmpty();
+            assertThat(compactJwtAdapter.parseToken("")).isEmpty();
+            assertThat(compactJwtAdapter.parseToken("invalid.token.here")).isEmpty();
+            assertThat(compactJwtAdapter.parseToken(token + ".extra")).isEmpty();
+            assertThat(compactJwtAdapter.parseToken(token.substring(0, token.lastIndexOf('.')))).isEmpty();
+            assertThat(compactJwtAdapter.parseToken(token.substring(0, token.length() - 2) + "é")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should refuse secrets shorter than 256 bits")
+        void shouldRefuseShortSecrets() {
+            assertThatThrownBy(() -> new CompactJwtAdapter("too-short", EXPIRATION_MS))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Claim Profile Tests")
+    class ClaimProfileTests {
+
+        @Test
+        @DisplayName("Should issue minimal short-named tokens both codecs read")
+        void shouldIssueMinimalShortNamedTokens() {
+            CompactJwtAdapter minimal = new CompactJwtAdapter(SECRET, EXPIRATION_MS,
+                    new JwtClaimSettings(JwtClaimProfile.MINIMAL, Map.of(), true));
+
+            String token = minimal.generateToken(testUser).getToken();
+            String payload = new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]),
+                    StandardCharsets.UTF_8);
+
+            assertThat(payload).contains("\"uid\":1", "\"rol\":\"OWNER\"")
+                    .doesNotContain("firstName", "\"fn\"", "\"iat\"", "\"tv\"");
+            assertThat(token.length()).isLessThan(compactJwtAdapter.generateToken(testUser).getToken().length());
+            for (TokenClaims claims : List.of(minimal.parseToken(token).orElseThrow(),
+                    compactJwtAdapter.parseToken(token).orElseThrow(),
+                    jwtAdapter.parseToken(token).orElseThrow())) {
+                assertThat(claims.getUserId()).isEqualTo(1L);
+                assertThat(claims.getRole()).isEqualTo("OWNER");
+                assertThat(claims.getEmail()).isEqualTo("test@example.com");
+                assertThat(claims.getIssuedAt()).isNull();
+            }
+        }
+
+        @Test
+        @DisplayName("Should write the aud claim for configured audiences")
+        void shouldWriteAudClaimForConfiguredAudiences() {
+            CompactJwtAdapter adapter = new CompactJwtAdapter(SECRET, EXPIRATION_MS,
+                    new JwtClaimSettings(JwtClaimProfile.FULL, Map.of("gateway", JwtClaimProfile.MINIMAL), false));
+
+            String token = adapter.generateToken(testUser, "gateway").getToken();
+
+            assertThat(new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]), StandardCharsets.UTF_8))
+                    .contains("\"aud\":\"gateway\"");
+            assertThat(jwtAdapter.parseToken(token)).isPresent();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.pragma.usuarios.infrastructure.output.security;
 
+import com.pragma.usuarios.domain.model.IssuedToken;
 import com.pragma.usuarios.domain.model.Role;
+import com.pragma.usuarios.domain.model.TokenClaims;
 import com.pragma.usuarios.domain.model.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,6 +10,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -17,7 +23,7 @@ class JwtAdapterTest {
     private User testUser;
 
     private static final String SECRET = "test-secret-key-for-jwt-token-generation-must-be-at-least-256-bits-long";
-    private static final long EXPIRATION_MS = 86400000L; // 24 hours
+    private static final long EXPIRATION_MS = 900000L; // 15 minutes
 
     @BeforeEach
     void setUp() {
@@ -44,7 +50,7 @@ class JwtAdapterTest {
         @Test
         @DisplayName("Should generate a valid token")
         void shouldGenerateValidToken() {
-            String token = jwtAdapter.generateToken(testUser);
+            String token = jwtAdapter.generateToken(testUser).getToken();
 
             assertThat(token).isNotNull().isNotEmpty();
             assertThat(jwtAdapter.isTokenValid(token)).isTrue();
@@ -53,12 +59,41 @@ class JwtAdapterTest {
         @Test
         @DisplayName("Should include user info in token")
         void shouldIncludeUserInfoInToken() {
-            String token = jwtAdapter.generateToken(testUser);
+            String token = jwtAdapter.generateToken(testUser).getToken();
 
             assertThat(jwtAdapter.extractEmail(token)).isEqualTo(testUser.getEmail());
             assertThat(jwtAdapter.extractUserId(token)).isEqualTo(testUser.getId());
             assertThat(jwtAdapter.extractRole(token)).isEqualTo(testUser.getRole().getName());
         }
+
+        @Test
+        @DisplayName("Should return the claims carried by the issued token")
+        void shouldReturnClaimsCarriedByIssuedToken() {
+            IssuedToken issuedToken = jwtAdapter.generateToken(testUser);
+
+            TokenClaims issued = issuedToken.getClaims();
+            TokenClaims parsed = jwtAdapter.parseToken(issuedToken.getToken()).orElseThrow();
+
+            assertThat(issued.getUserId()).isEqualTo(parsed.getUserId());
+            assertThat(issued.getEmail()).isEqualTo(parsed.getEmail());
+            assertThat(issued.getRole()).isEqualTo(parsed.getRole());
+            assertThat(issued.getIssuedAt()).isEqualTo(parsed.getIssuedAt());
+            assertThat(issued.getExpiresAt()).isEqualTo(parsed.getExpiresAt());
+        }
+
+        @Test
+        @DisplayName("Should give every token its own id and carry the user's token version")
+        void shouldCarryTokenIdAndVersion() {
+            testUser.setTokenVersion(3);
+
+            IssuedToken first = jwtAdapter.generateToken(testUser);
+            IssuedToken second = jwtAdapter.generateToken(testUser);
+            TokenClaims parsed = jwtAdapter.parseToken(first.getToken()).orElseThrow();
+
+            assertThat(parsed.getTokenId()).isNotBlank().isEqualTo(first.getClaims().getTokenId());
+            assertThat(parsed.getTokenId()).isNotEqualTo(second.getClaims().getTokenId());
+            assertThat(parsed.getTokenVersion()).isEqualTo(3);
+        }
     }
 
     @Nested
@@ -68,7 +103,7 @@ class JwtAdapterTest {
         @Test
         @DisplayName("Should return true for valid token")
         void shouldReturnTrueForValidToken() {
-            String token = jwtAdapter.generateToken(testUser);
+            String token = jwtAdapter.generateToken(testUser).getToken();
 
             assertThat(jwtAdapter.isTokenValid(token)).isTrue();
         }
@@ -96,7 +131,7 @@ class JwtAdapterTest {
         void shouldReturnFalseForExpiredToken() {
             // Create adapter with negative expiration (already expired)
             JwtAdapter expiredAdapter = new JwtAdapter(SECRET, -1000L);
-            String expiredToken = expiredAdapter.generateToken(testUser);
+            String expiredToken = expiredAdapter.generateToken(testUser).getToken();
 
             assertThat(jwtAdapter.isTokenValid(expiredToken)).isFalse();
         }
@@ -109,7 +144,7 @@ class JwtAdapterTest {
         @Test
         @DisplayName("Should extract email from token")
         void shouldExtractEmailFromToken() {
-            String token = jwtAdapter.generateToken(testUser);
+            String token = jwtAdapter.generateToken(testUser).getToken();
 
             String email = jwtAdapter.extractEmail(token);
 
@@ -119,7 +154,7 @@ class JwtAdapterTest {
         @Test
         @DisplayName("Should extract user id from token")
         void shouldExtractUserIdFromToken() {
-            String token = jwtAdapter.generateToken(testUser);
+            String token = jwtAdapter.generateToken(testUser).getToken();
 
             Long userId = jwtAdapter.extractUserId(token);
 
@@ -129,11 +164,259 @@ class JwtAdapterTest {
         @Test
         @DisplayName("Should extract role from token")
         void shouldExtractRoleFromToken() {
-            String token = jwtAdapter.generateToken(testUser);
+            String token = jwtAdapter.generateToken(testUser).getToken();
 
             String role = jwtAdapter.extractRole(token);
 
             assertThat(role).isEqualTo("OWNER");
         }
     }
+
+    @Nested
+    @DisplayName("Parse Token Tests")
+    class ParseTokenTests {
+
+        @Test
+        @DisplayName("Should return all claims from a single parse")
+        void shouldReturnAllClaimsFromSingleParse() {
+            String token = jwtAdapter.generateToken(testUser).getToken();
+
+            Optional<TokenClaims> claims = jwtAdapter.parseToken(token);
+
+            assertThat(claims).isPresent();
+            assertThat(claims.get().getUserId()).isEqualTo(1L);
+            assertThat(claims.get().getEmail()).isEqualTo("test@example.com");
+            assertThat(claims.get().getRole()).isEqualTo("OWNER");
+            assertThat(claims.get().getIssuedAt()).isNotNull();
+            assertThat(claims.get().getExpiresAt()).isAfter(claims.get().getIssuedAt());
+        }
+
+        @Test
+        @DisplayName("Should return empty for expired token")
+        void shouldReturnEmptyForExpiredToken() {
+            JwtAdapter expiredAdapter = new JwtAdapter(SECRET, -1000L);
+            String expiredToken = expiredAdapter.generateToken(testUser).getToken();
+
+            assertThat(jwtAdapter.parseToken(expiredToken)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should return empty for token signed with another key")
+        void shouldReturnEmptyForTokenSignedWithAnotherKey() {
+            JwtAdapter otherAdapter = new JwtAdapter(SECRET + "-other", EXPIRATION_MS);
+            String foreignToken = otherAdapter.generateToken(testUser).getToken();
+
+            assertThat(jwtAdapter.parseToken(foreignToken)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should return empty for malformed or null token")
+        void shouldReturnEmptyForMalformedOrNullToken() {
+            assertThat(jwtAdapter.parseToken("invalid.token.here")).isEmpty();
+            assertThat(jwtAdapter.parseToken(null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Asymmetric Key Tests")
+    class AsymmetricKeyTests {
+
+        private String header(String token) {
+            return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+        }
+
+        @Test
+        @DisplayName("Should sign and verify with an EdDSA key")
+        void shouldRoundTripWithEdDsaKey() {
+            JwtAdapter edDsaAdapter = new JwtAdapter(JwtKey.generate(JwtSignatureAlgorithm.EDDSA, "ed-1"), EXPIRATION_MS);
+
+            String token = edDsaAdapter.generateToken(testUser).getToken();
+
+            assertThat(header(token)).contains("\"alg\":\"EdDSA\"").contains("\"kid\":\"ed-1\"");
+            assertThat(edDsaAdapter.parseToken(token)).map(TokenClaims::getEmail).contains("test@example.com");
+        }
+
+        @Test
+        @DisplayName("Should sign and verify with an ES256 key")
+        void shouldRoundTripWithEs256Key() {
+            JwtAdapter es256Adapter = new JwtAdapter(JwtKey.generate(JwtSignatureAlgorithm.ES256, "ec-1"), EXPIRATION_MS);
+
+            String token = es256Adapter.generateToken(testUser).getToken();
+
+            assertThat(header(token)).contains("\"alg\":\"ES256\"").contains("\"kid\":\"ec-1\"");
+            assertThat(es256Adapter.parseToken(token)).map(TokenClaims::getUserId).contains(1L);
+        }
+
+        @Test
+        @DisplayName("Should reject tokens signed with the HMAC secret or another key pair")
+        void shouldRejectForeignTokens() {
+            JwtAdapter edDsaAdapter = new JwtAdapter(JwtKey.generate(JwtSignatureAlgorithm.EDDSA, "ed-1"), EXPIRATION_MS);
+            JwtAdapter otherAdapter = new JwtAdapter(JwtKey.generate(JwtSignatureAlgorithm.EDDSA, "ed-1"), EXPIRATION_MS);
+
+            assertThat(edDsaAdapter.parseToken(jwtAdapter.generateToken(testUser).getToken())).isEmpty();
+            assertThat(edDsaAdapter.parseToken(otherAdapter.generateToken(testUser).getToken())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should publish only the public half of the key")
+        void shouldPublishOnlyPublicKey() {
+            JwtAdapter es256Adapter = new JwtAdapter(JwtKey.generate(JwtSignatureAlgorithm.ES256, "ec-1"), EXPIRATION_MS);
+
+            List<Map<String, Object>> jwks = es256Adapter.publicJwks();
+
+            assertThat(jwks).singleElement().satisfies(jwk -> {
+                assertThat(jwk).containsEntry("kty", "EC")
+                        .containsEntry("crv", "P-256")
+                        .containsEntry("kid", "ec-1")
+                        .containsEntry("alg", "ES256")
+                        .containsEntry("use", "sig")
+                        .containsKeys("x", "y")
+                        .doesNotContainKey("d");
+            });
+        }
+
+        @Test
+        @DisplayName("Should derive the key id from the thumbprint when none is configured")
+        void shouldDeriveKeyIdFromThumbprint() {
+            JwtKey key = JwtKey.generate(JwtSignatureAlgorithm.EDDSA, " ");
+
+            assertThat(key.getKeyId()).isNotBlank();
+            assertThat(key.toPublicJwk()).get().satisfies(jwk -> assertThat(jwk)
+                    .containsEntry("kty", "OKP")
+                    .containsEntry("crv", "Ed25519")
+                    .containsEntry("kid", key.getKeyId()));
+        }
+
+        @Test
+        @DisplayName("Should not publish HMAC secrets")
+        void shouldNotPublishHmacSecrets() {
+            assertThat(jwtAdapter.publicJwks()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Key Rotation Tests")
+    class KeyRotationTests {
+
+        @Test
+        @DisplayName("Should keep verifying tokens of a retired key after rotation")
+        void shouldKeepVerifyingTokensOfRetiredKey() {
+            JwtKey legacy = JwtKey.hmac(SECRET);
+            JwtKeyRing keyRing = JwtKeyRing.of(legacy);
+            JwtAdapter rotatingAdapter = new JwtAdapter(keyRing, EXPIRATION_MS);
+            String legacyToken = rotatingAdapter.generateToken(testUser).getToken();
+
+            keyRing.rotate(JwtKey.generate(JwtSignatureAlgorithm.EDDSA, "ed-1"), List.of(legacy));
+            String rotatedToken = rotatingAdapter.generateToken(testUser).getToken();
+
+            assertThat(rotatingAdapter.parseToken(legacyToken)).isPresent();
+            assertThat(rotatingAdapter.parseToken(rotatedToken)).isPresent();
+            assertThat(rotatedToken).isNotEqualTo(legacyToken);
+        }
+
+        @Test
+        @DisplayName("Should reject tokens once their key leaves the ring")
+        void shouldRejectTokensOfRemovedKey() {
+            JwtKey first = JwtKey.hmac("k1", SECRET);
+            JwtKeyRing keyRing = JwtKeyRing.of(first);
+            JwtAdapter rotatingAdapter = new JwtAdapter(keyRing, EXPIRATION_MS);
+            String token = rotatingAdapter.generateToken(testUser).getToken();
+
+            keyRing.rotate(JwtKey.hmac("k2", SECRET + "-next"), List.of());
+
+            assertThat(rotatingAdapter.parseToken(token)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject tokens whose kid names another key of the ring")
+        void shouldRejectTokensWithMismatchedKid() {
+            JwtKeyRing keyRing = new JwtKeyRing(JwtKey.hmac("k2", SECRET + "-next"), List.of(JwtKey.hmac("k1", SECRET)));
+            JwtAdapter rotatingAdapter = new JwtAdapter(keyRing, EXPIRATION_MS);
+            String forged = new JwtAdapter(JwtKey.hmac("k1", SECRET + "-next"), EXPIRATION_MS)
+                    .generateToken(testUser).getToken();
+
+            assertThat(rotatingAdapter.parseToken(forged)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should publish the public keys of every key in the ring")
+        void shouldPublishEveryPublicKey() {
+            JwtKeyRing keyRing = new JwtKeyRing(JwtKey.generate(JwtSignatureAlgorithm.EDDSA, "ed-2"),
+                    List.of(JwtKey.generate(JwtSignatureAlgorithm.EDDSA, "ed-1"), JwtKey.hmac(SECRET)));
+
+            assertThat(new JwtAdapter(keyRing, EXPIRATION_MS).publicJwks())
+                    .extracting(jwk -> jwk.get("kid"))
+                    .containsExactly("ed-2", "ed-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("Claim Profile Tests")
+    class ClaimProfileTests {
+
+        private final JwtClaimSettings claimSettings = new JwtClaimSettings(JwtClaimProfile.FULL,
+                Map.of("gateway", JwtClaimProfile.MINIMAL), false);
+
+        private String payload(String token) {
+            return new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]));
+        }
+
+        @Test
+        @DisplayName("Should leave the names and iat out of minimal tokens")
+        void shouldLeaveNamesOutOfMinimalTokens() {
+            JwtAdapter adapter = new JwtAdapter(JwtKeyRing.of(JwtKey.hmac(SECRET)), EXPIRATION_MS, claimSettings);
+
+            String full = adapter.generateToken(testUser).getToken();
+            IssuedToken minimal = adapter.generateToken(testUser, "gateway");
+
+            assertThat(payload(minimal.getToken()))
+                    .contains("\"aud\":\"gateway\"")
+                    .doesNotContain("firstName", "lastName", "iat", "tokenVersion");
+            assertThat(minimal.getToken().length()).isLessThan(full.length());
+            TokenClaims parsed = adapter.parseToken(minimal.getToken()).orElseThrow();
+            assertThat(parsed.getUserId()).isEqualTo(1L);
+            assertThat(parsed.getEmail()).isEqualTo("test@example.com");
+            assertThat(parsed.getRole()).isEqualTo("OWNER");
+            assertThat(parsed.getTokenId()).isEqualTo(minimal.getClaims().getTokenId());
+            assertThat(parsed.tokenVersionOrZero()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should keep the token version in minimal tokens once it has been bumped")
+        void shouldKeepBumpedTokenVersion() {
+            JwtAdapter adapter = new JwtAdapter(JwtKeyRing.of(JwtKey.hmac(SECRET)), EXPIRATION_MS, claimSettings);
+            testUser.setTokenVersion(2);
+
+            String token = adapter.generateToken(testUser, "gateway").getToken();
+
+            assertThat(adapter.parseToken(token)).get().extracting(TokenClaims::getTokenVersion).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should use the default profile without an aud claim for unknown audiences")
+        void shouldUseDefaultProfileForUnknownAudiences() {
+            JwtAdapter adapter = new JwtAdapter(JwtKeyRing.of(JwtKey.hmac(SECRET)), EXPIRATION_MS, claimSettings);
+
+            String token = adapter.generateToken(testUser, "unknown").getToken();
+
+            assertThat(payload(token)).contains("firstName").doesNotContain("\"aud\"");
+        }
+
+        @Test
+        @DisplayName("Should write short claim names and read both namings")
+        void shouldWriteShortNamesAndReadBoth() {
+            JwtAdapter shortNames = new JwtAdapter(JwtKeyRing.of(JwtKey.hmac(SECRET)), EXPIRATION_MS,
+                    new JwtClaimSettings(JwtClaimProfile.FULL, Map.of(), true));
+
+            String token = shortNames.generateToken(testUser).getToken();
+
+            assertThat(payload(token)).contains("\"uid\"", "\"rol\"", "\"fn\"").doesNotContain("userId");
+            assertThat(jwtAdapter.parseToken(token)).get().satisfies(claims -> {
+                assertThat(claims.getUserId()).isEqualTo(1L);
+                assertThat(claims.getRole()).isEqualTo("OWNER");
+            });
+            assertThat(jwtAdapter.extractUserId(token)).isEqualTo(1L);
+            assertThat(shortNames.parseToken(jwtAdapter.generateToken(testUser).getToken())).isPresent();
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-must-be-at-least-256-bits-long";
+
+    @Test
+    @DisplayName("Should find keys by key id and kid-less tokens by the key without one")
+    void shouldFindKeysByKeyId() {
+        JwtKey legacy = JwtKey.hmac(SECRET);
+        JwtKey active = JwtKey.generate(JwtSignatureAlgorithm.EDDSA, "ed-2");
+
+        JwtKeyRing keyRing = new JwtKeyRing(active, List.of(legacy));
+
+        assertThat(keyRing.activeKey()).isSameAs(active);
+        assertThat(keyRing.find("ed-2")).containsSame(active);
+        assertThat(keyRing.find(null)).containsSame(legacy);
+        assertThat(keyRing.find("unknown")).isEmpty();
+        assertThat(keyRing.keys()).containsExactly(active, legacy);
+    }
+
+    @Test
+    @DisplayName("Should swap the key set and notify listeners on rotation")
+    void shouldSwapKeySetOnRotation() {
+        JwtKey first = JwtKey.generate(JwtSignatureAlgorithm.ES256, "ec-1");
+        JwtKey second = JwtKey.generate(JwtSignatureAlgorithm.ES256, "ec-2");
+        JwtKeyRing keyRing = JwtKeyRing.of(first);
+        AtomicInteger rotations = new AtomicInteger();
+        keyRing.onRotation(rotations::incrementAndGet);
+
+        keyRing.rotate(second, List.of(first));
+
+        assertThat(keyRing.activeKey()).isSameAs(second);
+        assertThat(keyRing.find("ec-1")).containsSame(first);
+        assertThat(rotations).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate key ids and keep the previous key set")
+    void shouldRejectDuplicateKeyIds() {
+        JwtKey first = JwtKey.hmac("k1", SECRET);
+        JwtKeyRing keyRing = JwtKeyRing.of(first);
+
+        assertThatThrownBy(() -> keyRing.rotate(JwtKey.hmac("k1", SECRET + "-new"), List.of(first)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new JwtKeyRing(JwtKey.hmac(SECRET), List.of(JwtKey.hmac(SECRET + "-old"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(keyRing.activeKey()).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Should refuse a verification-only key as the active key")
+    void shouldRefuseVerificationOnlyActiveKey() {
+        JwtKey generated = JwtKey.generate(JwtSignatureAlgorithm.EDDSA, "ed-1");
+        String publicPem = Base64.getEncoder().encodeToString(generated.getVerificationKey().getEncoded());
+        JwtKey verificationOnly = JwtKey.verificationOnly(JwtSignatureAlgorithm.EDDSA, "ed-1", publicPem);
+
+        assertThat(verificationOnly.canSign()).isFalse();
+        assertThatThrownBy(() -> JwtKeyRing.of(verificationOnly))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -110,4 +110,23 @@ class PasswordEncoderAdapterTest {
             verify(passwordEncoder, times(1)).matches(RAW_PASSWORD, ENCODED_PASSWORD);
         }
     }
+
+    @Nested
+    @DisplayName("Upgrade Encoding Tests")
+    class UpgradeEncodingTests {
+
+        @Test
+        @DisplayName("Should delegate the rehash decision to Spring PasswordEncoder")
+        void shouldDelegateUpgradeEncodingToSpringPasswordEncoder() {
+            // Arrange
+            when(passwordEncoder.upgradeEncoding(ENCODED_PASSWORD)).thenReturn(true);
+
+            // Act
+            boolean result = passwordEncoderAdapter.upgradeEncoding(ENCODED_PASSWORD);
+
+            // Assert
+            assertTrue(result);
+            verify(passwordEncoder).upgradeEncoding(ENCODED_PASSWORD);
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Pbkdf2Sha256PasswordEncoderTest {
+
+    private static final String PASSWORD = "password123";
+
+    private final Pbkdf2Sha256PasswordEncoder encoder = new Pbkdf2Sha256PasswordEncoder(1_000, 16, 32);
+
+    @Test
+    @DisplayName("Should verify the password it hashed")
+    void shouldVerifyPasswordItHashed() {
+        String encoded = encoder.encode(PASSWORD);
+
+        assertThat(encoded).startsWith("1000$");
+        assertThat(encoder.matches(PASSWORD, encoded)).isTrue();
+        assertThat(encoder.matches("wrongPassword", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should salt every hash")
+    void shouldSaltEveryHash() {
+        assertThat(encoder.encode(PASSWORD)).isNotEqualTo(encoder.encode(PASSWORD));
+    }
+
+    @Test
+    @DisplayName("Should verify hashes made with another iteration count")
+    void shouldVerifyHashesMadeWithAnotherIterationCount() {
+        String older = new Pbkdf2Sha256PasswordEncoder(500, 16, 32).encode(PASSWORD);
+
+        assertThat(encoder.matches(PASSWORD, older)).isTrue();
+        assertThat(encoder.upgradeEncoding(older)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should ask for a rehash only when the parameters differ")
+    void shouldAskForRehashOnlyWhenParametersDiffer() {
+        assertThat(encoder.upgradeEncoding(encoder.encode(PASSWORD))).isFalse();
+        assertThat(encoder.upgradeEncoding(new Pbkdf2Sha256PasswordEncoder(2_000, 16, 32).encode(PASSWORD))).isTrue();
+        assertThat(encoder.upgradeEncoding(new Pbkdf2Sha256PasswordEncoder(1_000, 16, 64).encode(PASSWORD))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed hashes")
+    void shouldRejectMalformedHashes() {
+        assertThat(encoder.matches(PASSWORD, null)).isFalse();
+        assertThat(encoder.matches(PASSWORD, "not-a-hash")).isFalse();
+        assertThat(encoder.matches(PASSWORD, "x$AAAA$AAAA")).isFalse();
+        assertThat(encoder.upgradeEncoding("not-a-hash")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject non positive parameters")
+    void shouldRejectNonPositiveParameters() {
+        assertThatThrownBy(() -> new Pbkdf2Sha256PasswordEncoder(0, 16, 32))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RehashingPasswordEncoderTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Nested
+    @DisplayName("BCrypt Tests")
+    class BCryptTests {
+
+        @Test
+        @DisplayName("Should verify hashes of any strength")
+        void shouldVerifyHashesOfAnyStrength() {
+            String weaker = RehashingPasswordEncoder.bcrypt(4).encode(PASSWORD);
+
+            assertThat(RehashingPasswordEncoder.bcrypt(5).matches(PASSWORD, weaker)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should ask for a rehash of weaker and more expensive hashes only")
+        void shouldAskForRehashOfOtherStrengths() {
+            RehashingPasswordEncoder encoder = RehashingPasswordEncoder.bcrypt(5);
+
+            assertThat(encoder.upgradeEncoding(encoder.encode(PASSWORD))).isFalse();
+            assertThat(encoder.upgradeEncoding(RehashingPasswordEncoder.bcrypt(4).encode(PASSWORD))).isTrue();
+            assertThat(encoder.upgradeEncoding(RehashingPasswordEncoder.bcrypt(6).encode(PASSWORD))).isTrue();
+            assertThat(encoder.upgradeEncoding(null)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Argon2 Tests")
+    class Argon2Tests {
+
+        @Test
+        @DisplayName("Should verify hashes made with other parameters")
+        void shouldVerifyHashesMadeWithOtherParameters() {
+            String older = RehashingPasswordEncoder.argon2(16, 32, 1, 1024, 1).encode(PASSWORD);
+
+            assertThat(RehashingPasswordEncoder.argon2(16, 32, 1, 2048, 2).matches(PASSWORD, older)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should ask for a rehash when memory or iterations differ")
+        void shouldAskForRehashWhenParametersDiffer() {
+            RehashingPasswordEncoder encoder = RehashingPasswordEncoder.argon2(16, 32, 1, 1024, 1);
+
+            assertThat(encoder.upgradeEncoding(encoder.encode(PASSWORD))).isFalse();
+            assertThat(encoder.upgradeEncoding(RehashingPasswordEncoder.argon2(16, 32, 1, 2048, 1).encode(PASSWORD)))
+                    .isTrue();
+            assertThat(encoder.upgradeEncoding(RehashingPasswordEncoder.argon2(16, 32, 1, 1024, 2).encode(PASSWORD)))
+                    .isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should move unprefixed and other algorithm hashes to the current algorithm")
+    void shouldMoveOtherAlgorithmHashesToCurrentAlgorithm() {
+        PasswordEncoder bcrypt = RehashingPasswordEncoder.bcrypt(4);
+        PasswordEncoder pbkdf2 = new Pbkdf2Sha256PasswordEncoder(1_000, 16, 32);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(PasswordHashAlgorithm.PBKDF2.getId(),
+                Map.of(PasswordHashAlgorithm.BCRYPT.getId(), bcrypt, PasswordHashAlgorithm.PBKDF2.getId(), pbkdf2));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        String legacy = bcrypt.encode(PASSWORD);
+
+        String current = encoder.encode(PASSWORD);
+
+        assertThat(current).startsWith("{pbkdf2-sha256}");
+        assertThat(encoder.matches(PASSWORD, legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding("{bcrypt}" + legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(current)).isFalse();
+    }
+}
@@ -0,0 +1,63 @@
+package com.pragma.usuarios.infrastructure.output.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenDenylistTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private TokenDenylist denylist;
+
+    @BeforeEach
+    void setUp() {
+        denylist = new TokenDenylist();
+    }
+
+    @Test
+    @DisplayName("Should revoke a single token by its id")
+    void shouldRevokeSingleTokenById() {
+        denylist.revokeToken("jti-1", NOW.plusSeconds(60));
+
+        assertThat(denylist.isRevoked("jti-1", 1L, 0)).isTrue();
+        assertThat(denylist.isRevoked("jti-2", 1L, 0)).isFalse();
+        assertThat(denylist.isRevoked(null, 1L, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should revoke tokens issued before the user's current version")
+    void shouldRevokeTokensBeforeVersion() {
+        denylist.revokeTokensBefore(1L, 2);
+
+        assertThat(denylist.isRevoked("jti-1", 1L, 0)).isTrue();
+        assertThat(denylist.isRevoked("jti-1", 1L, 1)).isTrue();
+        assertThat(denylist.isRevoked("jti-1", 1L, 2)).isFalse();
+        assertThat(denylist.isRevoked("jti-1", 2L, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should never lower a user's minimum token version")
+    void shouldNeverLowerMinimumTokenVersion() {
+        denylist.revokeTokensBefore(1L, 3);
+        denylist.revokeTokensBefore(1L, 1);
+
+        assertThat(denylist.isRevoked(null, 1L, 2)).isTrue();
+        assertThat(denylist.signedOutUserCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should prune only the tokens that have expired")
+    void shouldPruneOnlyExpiredTokens() {
+        denylist.revokeToken("expired", NOW.minusSeconds(1));
+        denylist.revokeToken("live", NOW.plusSeconds(60));
+
+        assertThat(denylist.prune(NOW)).isEqualTo(1);
+        assertThat(denylist.revokedTokenCount()).isEqualTo(1);
+        assertThat(denylist.isRevoked("live", 1L, 0)).isTrue();
+    }
+}
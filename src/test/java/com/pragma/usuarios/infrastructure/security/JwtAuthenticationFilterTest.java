@@ -1,6 +1,8 @@
 package com.pragma.usuarios.infrastructure.security;
 
+import com.pragma.usuarios.domain.model.TokenClaims;
 import com.pragma.usuarios.domain.spi.IJwtPort;
+import com.pragma.usuarios.domain.spi.ITokenRevocationPort;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -32,6 +35,9 @@ class JwtAuthenticationFilterTest {
     @Mock
     private IJwtPort jwtPort;
 
+    @Mock
+    private ITokenRevocationPort tokenRevocationPort;
+
     @Mock
     private HttpServletRequest request;
 
@@ -73,16 +79,62 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_ShouldAuthenticate_WhenTokenIsValid() throws ServletException, IOException {
         String token = VALID_TOKEN;
         when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_PREFIX + token);
-        when(jwtPort.isTokenValid(token)).thenReturn(true);
-        when(jwtPort.extractEmail(token)).thenReturn(TEST_EMAIL);
-        when(jwtPort.extractRole(token)).thenReturn(ADMIN_ROLE);
-        when(jwtPort.extractUserId(token)).thenReturn(USER_ID);
+        when(jwtPort.parseToken(token)).thenReturn(Optional.of(TokenClaims.builder()
+                .userId(USER_ID)
+                .email(TEST_EMAIL)
+                .role(ADMIN_ROLE)
+                .build()));
 
         filter.doFilterInternal(request, response, filterChain);
 
-        verify(jwtPort).isTokenValid(token);
+        verify(jwtPort).parseToken(token);
+        verifyNoMoreInteractions(jwtPort);
         verify(filterChain).doFilter(request, response);
         assertNotNull(SecurityContextHolder.getContext().getAuthentication());
         assertEquals(TEST_EMAIL, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        assertEquals(USER_ID, SecurityContextHolder.getContext().getAuthentication().getDetails());
+    }
+
+    @Test
+    void doFilterInternal_ShouldNotAuthenticate_WhenTokenIsInvalid() throws ServletException, IOException {
+        when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_PREFIX + VALID_TOKEN);
+        when(jwtPort.parseToken(VALID_TOKEN)).thenReturn(Optional.empty());
+
+        filter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilterInternal_ShouldNotAuthenticate_WhenRequiredClaimIsMissing() throws ServletException, IOException {
+        when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_PREFIX + VALID_TOKEN);
+        when(jwtPort.parseToken(VALID_TOKEN)).thenReturn(Optional.of(TokenClaims.builder()
+                .email(TEST_EMAIL)
+                .role(ADMIN_ROLE)
+                .build()));
+
+        filter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilterInternal_ShouldNotAuthenticate_WhenTokenIsRevoked() throws ServletException, IOException {
+        TokenClaims claims = TokenClaims.builder()
+                .tokenId("jti-1")
+                .userId(USER_ID)
+                .email(TEST_EMAIL)
+                .role(ADMIN_ROLE)
+                .build();
+        when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(BEARER_PREFIX + VALID_TOKEN);
+        when(jwtPort.parseToken(VALID_TOKEN)).thenReturn(Optional.of(claims));
+        when(tokenRevocationPort.isRevoked(claims)).thenReturn(true);
+
+        filter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
     }
 }
@@ -0,0 +1,175 @@
+package com.pragma.usuarios.infrastructure.security;
+
+import com.pragma.usuarios.infrastructure.configuration.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RateLimitFilterTest {
+
+    private static final String LOGIN_PATH = "/api/v1/auth/login";
+    private static final String CLIENT_IP = "203.0.113.7";
+    private static final int CAPACITY = 3;
+    private static final Duration PERIOD = Duration.ofMinutes(1);
+
+    private AtomicLong nanos;
+    private SimpleMeterRegistry registry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(new RateLimitProperties.Route("login", "POST", LOGIN_PATH, CAPACITY, PERIOD)));
+        nanos = new AtomicLong();
+        registry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, registry, nanos::get);
+    }
+
+    private MockHttpServletResponse send(String method, String path, String clientIp, FilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(clientIp);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse login(String clientIp) throws ServletException, IOException {
+        return send("POST", LOGIN_PATH, clientIp, mock(FilterChain.class));
+    }
+
+    @Test
+    @DisplayName("Should let a client burst up to the capacity and report what is left")
+    void shouldAllowBurstUpToCapacity() throws Exception {
+        FilterChain chain = mock(FilterChain.class);
+
+        for (int i = CAPACITY - 1; i >= 0; i--) {
+            MockHttpServletResponse response = send("POST", LOGIN_PATH, CLIENT_IP, chain);
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader(RateLimitFilter.LIMIT_HEADER)).isEqualTo(String.valueOf(CAPACITY));
+            assertThat(response.getHeader(RateLimitFilter.REMAINING_HEADER)).isEqualTo(String.valueOf(i));
+        }
+        verify(chain, times(CAPACITY)).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should refuse a client over its limit with 429 and Retry-After without calling the chain")
+    void shouldRefuseClientOverLimit() throws Exception {
+        for (int i = 0; i < CAPACITY; i++) {
+            login(CLIENT_IP);
+        }
+        FilterChain chain = mock(FilterChain.class);
+
+        MockHttpServletResponse response = send("POST", LOGIN_PATH, CLIENT_IP, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("20");
+        assertThat(response.getHeader(RateLimitFilter.REMAINING_HEADER)).isEqualTo("0");
+        assertThat(response.getHeader(RateLimitFilter.RESET_HEADER)).isEqualTo("60");
+        assertThat(response.getContentAsString()).contains("\"status\":429", "\"path\":\"" + LOGIN_PATH + "\"");
+        assertThat(registry.get("http.server.requests.rate-limited").tag("route", "login").counter().count())
+                .isEqualTo(1.0);
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should refill one request per emission interval")
+    void shouldRefillOverTime() throws Exception {
+        for (int i = 0; i < CAPACITY; i++) {
+            login(CLIENT_IP);
+        }
+
+        nanos.addAndGet(PERIOD.dividedBy(CAPACITY).toNanos());
+
+        assertThat(login(CLIENT_IP).getStatus()).isEqualTo(200);
+        assertThat(login(CLIENT_IP).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Should keep a separate bucket per client address")
+    void shouldKeepBucketPerClient() throws Exception {
+        for (int i = 0; i < CAPACITY; i++) {
+            login(CLIENT_IP);
+        }
+
+        assertThat(login(CLIENT_IP).getStatus()).isEqualTo(429);
+        assertThat(login("198.51.100.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should not limit or annotate other routes")
+    void shouldNotLimitOtherRoutes() throws Exception {
+        for (int i = 0; i < CAPACITY * 2; i++) {
+            MockHttpServletResponse response = send("GET", "/api/v1/users/1", CLIENT_IP, mock(FilterChain.class));
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader(RateLimitFilter.LIMIT_HEADER)).isNull();
+        }
+        assertThat(send("GET", LOGIN_PATH, CLIENT_IP, mock(FilterChain.class)).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should allow exactly the capacity to parallel requests of one client")
+    void shouldAllowExactlyCapacityInParallel() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Callable<Integer> task = () -> {
+                start.await();
+                return login(CLIENT_IP).getStatus();
+            };
+            List<Future<Integer>> futures = IntStream.range(0, threads)
+                    .mapToObj(_ -> executor.submit(task))
+                    .toList();
+            start.countDown();
+
+            int allowed = 0;
+            for (Future<Integer> future : futures) {
+                if (future.get(10, TimeUnit.SECONDS) == 200) {
+                    allowed++;
+                }
+            }
+            assertThat(allowed).isEqualTo(CAPACITY);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep at most the maximum number of clients per route")
+    void shouldBoundTrackedClients() {
+        RouteRateLimiter limiter = new RouteRateLimiter(
+                new RateLimitProperties.Route("login", "POST", LOGIN_PATH, CAPACITY, PERIOD), 1_000, nanos::get);
+
+        for (int i = 0; i < 100_000; i++) {
+            limiter.acquire("client-" + i, nanos.get());
+        }
+
+        assertThat(limiter.trackedClients()).isLessThanOrEqualTo(1_000);
+    }
+}
@@ -0,0 +1,85 @@
+package com.pragma.usuarios.infrastructure.security;
+
+import com.pragma.usuarios.infrastructure.configuration.ServiceAuthenticationProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServiceKeyAuthenticationFilterTest {
+
+    private static final String HEADER = "X-Service-Key";
+    private static final String SERVICE_KEY = "gateway-service-key";
+
+    private ServiceKeyAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private FilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        ServiceAuthenticationProperties properties = new ServiceAuthenticationProperties();
+        properties.setKeys(List.of("other-service-key", SERVICE_KEY));
+        filter = new ServiceKeyAuthenticationFilter(properties);
+        request = new MockHttpServletRequest("POST", "/api/v1/auth/introspect");
+        filterChain = new MockFilterChain();
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilterInternal_ShouldGrantServiceRole_WhenKeyIsKnown() throws ServletException, IOException {
+        request.addHeader(HEADER, SERVICE_KEY);
+
+        filter.doFilterInternal(request, new MockHttpServletResponse(), filterChain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals(List.of("ROLE_SERVICE"),
+                authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    void doFilterInternal_ShouldNotAuthenticate_WhenKeyIsUnknown() throws ServletException, IOException {
+        request.addHeader(HEADER, SERVICE_KEY + "-guess");
+
+        filter.doFilterInternal(request, new MockHttpServletResponse(), filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilterInternal_ShouldNotAuthenticate_WhenNoKeysAreConfigured() throws ServletException, IOException {
+        filter = new ServiceKeyAuthenticationFilter(new ServiceAuthenticationProperties());
+        request.addHeader(HEADER, "");
+
+        filter.doFilterInternal(request, new MockHttpServletResponse(), filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilterInternal_ShouldContinue_WhenHeaderIsMissing() throws ServletException, IOException {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilterInternal(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+}